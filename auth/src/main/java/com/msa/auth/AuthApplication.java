@@ -1,13 +1,19 @@
 package com.msa.auth;
 
+import com.msa.auth.config.MemberServiceLoadBalancerConfig;
+import com.msa.common.auth.key.JwtKeyRing;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@LoadBalancerClient(name = "member-service", configuration = MemberServiceLoadBalancerConfig.class)
+@Import(JwtKeyRing.class)
 public class AuthApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,144 @@
+package com.msa.auth.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.msa.auth.client.dto.MemberDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Member 서비스 회원 정보 근거리 캐시 (사용자 이름 키)
+ * 로그인/토큰 갱신 시 같은 사용자의 반복 조회가 Member 서비스와 DB 로 퍼지지 않도록 짧게 보관합니다.
+ * - 프로필(비밀번호 제외)은 ttl 동안, 비밀번호 해시는 그보다 짧은 password-ttl 동안만 별도 캐시에 보관하며
+ *   인증에 필요한 비밀번호가 만료되었으면 Member 서비스에서 다시 조회합니다.
+ * - 동시에 같은 사용자를 조회하면 한 번만 호출합니다.
+ * - Member 서비스가 회원 정보를 변경하면 Redis 채널(member:changed)로 알려 모든 인스턴스에서 항목을 제거합니다.
+ * 적중/실패 지표는 cache.* (cache=auth.member-profile), 조회 지연은 auth.member-profile.load 타이머로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class MemberProfileCache {
+
+    /**
+     * 회원 정보 변경 알림 채널 (메시지 본문은 사용자 이름, member-service 가 발행)
+     */
+    public static final String INVALIDATION_CHANNEL = "member:changed";
+
+    private static final String CACHE_NAME = "auth.member-profile";
+
+    private final MemberServiceClient memberServiceClient;
+    private final boolean enabled;
+    private final Cache<String, MemberDto> profiles;
+    private final Cache<String, String> passwords;
+    private final Timer loadTimer;
+
+    public MemberProfileCache(MemberServiceClient memberServiceClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.member-cache.enabled:true}") boolean enabled,
+                              @Value("${auth.member-cache.ttl:30s}") Duration ttl,
+                              @Value("${auth.member-cache.password-ttl:10s}") Duration passwordTtl,
+                              @Value("${auth.member-cache.max-size:10000}") long maxSize) {
+        this.memberServiceClient = memberServiceClient;
+        this.enabled = enabled;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // 비밀번호 해시는 프로필보다 오래 남지 않도록 더 짧은 쪽을 사용
+        this.passwords = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(passwordTtl.compareTo(ttl) < 0 ? passwordTtl : ttl)
+                .build();
+        this.loadTimer = Timer.builder("auth.member-profile.load")
+                .description("Member 서비스 회원 정보 조회 시간")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+    }
+
+    /**
+     * 비밀번호를 제외한 회원 정보 (토큰 갱신 등 클레임 생성용)
+     *
+     * @return 회원 정보 사본 (없으면 null, 조회 실패 시 Feign 예외가 그대로 전파됨)
+     */
+    public MemberDto getMember(String username) {
+        if (!enabled) {
+            return copy(load(username), null);
+        }
+        return copy(profiles.get(username, this::loadAndStore), null);
+    }
+
+    /**
+     * 비밀번호 해시를 포함한 회원 정보 (인증용)
+     * 비밀번호 해시가 password-ttl 안에 조회된 경우에만 캐시를 사용합니다.
+     *
+     * @return 회원 정보 사본 (호출자가 수정해도 캐시에는 영향 없음, 없으면 null)
+     */
+    public MemberDto getMemberWithPassword(String username) {
+        if (!enabled) {
+            return load(username);
+        }
+        String password = passwords.getIfPresent(username);
+        MemberDto profile = password != null ? profiles.getIfPresent(username) : null;
+        if (profile != null) {
+            return copy(profile, password);
+        }
+        MemberDto member = load(username);
+        if (member != null) {
+            store(username, member);
+        }
+        return member;
+    }
+
+    /**
+     * 회원 정보가 변경된 사용자의 항목을 제거합니다.
+     */
+    public void invalidate(String username) {
+        profiles.invalidate(username);
+        passwords.invalidate(username);
+        log.debug("[회원 캐시] 항목 제거: {}", username);
+    }
+
+    private MemberDto loadAndStore(String username) {
+        MemberDto member = load(username);
+        if (member == null) {
+            return null;
+        }
+        if (member.getPassword() != null) {
+            passwords.put(username, member.getPassword());
+        }
+        return copy(member, null);
+    }
+
+    private void store(String username, MemberDto member) {
+        if (member.getPassword() != null) {
+            passwords.put(username, member.getPassword());
+        }
+        profiles.put(username, copy(member, null));
+    }
+
+    private MemberDto load(String username) {
+        return loadTimer.record(() -> memberServiceClient.getMemberByUsername(username));
+    }
+
+    private static MemberDto copy(MemberDto member, String password) {
+        if (member == null) {
+            return null;
+        }
+        return MemberDto.builder()
+                .id(member.getId())
+                .username(member.getUsername())
+                .password(password)
+                .name(member.getName())
+                .email(member.getEmail())
+                .age(member.getAge())
+                .role(member.getRole())
+                .build();
+    }
+}
@@ -1,13 +1,21 @@
 package com.msa.auth.client;
 
 import com.msa.auth.client.dto.MemberDto;
+import com.msa.auth.client.dto.PasswordUpdateDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "member-service", url = "http://localhost:10001")
+// Eureka 에서 member-service 인스턴스를 찾아 로드 밸런서로 분산 (같은 zone 우선, MemberServiceLoadBalancerConfig)
+@FeignClient(name = "member-service")
 public interface MemberServiceClient {
 
     @GetMapping("/api/members/internal/username/{username}")
     MemberDto getMemberByUsername(@PathVariable String username);
-}
\ No newline at end of file
+
+    // 로그인 성공 시 현재 BCrypt strength 로 다시 해시한 비밀번호 저장
+    @PutMapping("/api/members/internal/username/{username}/password")
+    void updatePassword(@PathVariable String username, @RequestBody PasswordUpdateDto passwordUpdateDto);
+}
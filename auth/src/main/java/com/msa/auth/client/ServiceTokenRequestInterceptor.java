@@ -0,0 +1,43 @@
+package com.msa.auth.client;
+
+import com.msa.auth.config.JwtTokenProvider;
+import com.msa.common.auth.filter.GlobalSecurityContextFilter;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feign 요청에 서비스 토큰(X-Service-Token)을 붙이는 인터셉터
+ * member-service 의 내부 API(/api/members/internal/**)는 서비스 토큰으로 인증된 요청만 허용합니다.
+ * 서비스 토큰은 1분간 유효하므로 30초마다 한 번만 새로 서명하여 요청마다 서명하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceTokenRequestInterceptor implements RequestInterceptor {
+
+    private static final long REISSUE_INTERVAL_MILLIS = 30_000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private volatile IssuedToken issuedToken;
+
+    @Override
+    public void apply(RequestTemplate template) {
+        template.header(GlobalSecurityContextFilter.SERVICE_TOKEN_HEADER, currentToken());
+    }
+
+    private String currentToken() {
+        long now = System.currentTimeMillis();
+        IssuedToken current = issuedToken;
+        if (current == null || now - current.issuedAt() >= REISSUE_INTERVAL_MILLIS) {
+            // 동시에 만료를 본 요청이 각자 서명해도 결과는 모두 유효하므로 잠그지 않음
+            current = new IssuedToken(jwtTokenProvider.generateServiceToken(), now);
+            issuedToken = current;
+        }
+        return current.token();
+    }
+
+    private record IssuedToken(String token, long issuedAt) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.msa.auth.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해시 갱신 요청 (이미 해시된 값을 전달)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordUpdateDto {
+
+    private String password;
+}
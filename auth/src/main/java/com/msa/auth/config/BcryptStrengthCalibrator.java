@@ -0,0 +1,66 @@
+package com.msa.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * BCrypt strength 보정기
+ * 현재 호스트에서 strength 별 검증 시간을 측정하여 목표 지연 시간 이하인 가장 큰 strength 를 고릅니다.
+ * cost 가 1 오를 때마다 시간이 두 배가 되므로 목표를 넘는 strength 에서 측정을 멈춥니다.
+ */
+@Slf4j
+final class BcryptStrengthCalibrator {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    /**
+     * @param targetLatency 목표 검증 시간 (예: 250ms)
+     * @return 목표 이하인 가장 큰 strength (최소 4)
+     */
+    static int calibrate(Duration targetLatency) {
+        // JIT 예열
+        BCrypt.checkpw(SAMPLE_PASSWORD, BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(MIN_STRENGTH)));
+        return calibrate(targetLatency, BcryptStrengthCalibrator::medianVerifyNanos);
+    }
+
+    /**
+     * @param verifyNanos strength 별 검증 시간 측정 함수
+     * @return 목표 이하인 가장 큰 strength (4~16)
+     */
+    static int calibrate(Duration targetLatency, IntToLongFunction verifyNanos) {
+        long targetNanos = targetLatency.toNanos();
+        int selected = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            long nanos = verifyNanos.applyAsLong(strength);
+            log.info("[비밀번호] BCrypt strength={} 검증 시간 {}ms", strength, nanos / 1_000_000);
+            if (nanos > targetNanos) {
+                break;
+            }
+            selected = strength;
+        }
+        log.info("[비밀번호] 목표 {}ms 기준 BCrypt strength={} 선택", targetLatency.toMillis(), selected);
+        return selected;
+    }
+
+    private static long medianVerifyNanos(int strength) {
+        String hash = BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.checkpw(SAMPLE_PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
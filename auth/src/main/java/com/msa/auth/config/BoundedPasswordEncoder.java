@@ -0,0 +1,123 @@
+package com.msa.auth.config;
+
+import com.msa.common.exception.BusinessException;
+import com.msa.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 작업 풀에서 BCrypt 해시/검증을 수행하는 PasswordEncoder
+ * 요청 스레드는 결과를 기다리기만 하며, 동시에 계산하는 수는 작업 스레드 수(기본: CPU 코어 수)로 제한됩니다.
+ * 대기열이 가득 차면 기다리지 않고 SERVICE_UNAVAILABLE(503) 로 거부합니다.
+ * 풀 상태는 executor.* (name=auth.password-verify), 거부 건수는 auth.password-verify.rejected 로 노출됩니다.
+ * 저장된 해시의 cost 가 현재 strength 보다 낮으면 upgradeEncoding 이 true 를 반환하여
+ * 로그인 성공 시 DaoAuthenticationProvider 가 새 cost 로 다시 해시합니다. (UserDetailsPasswordService)
+ * 인스턴스마다 보정된 strength 가 달라도 cost 를 낮추지는 않으므로 같은 계정을 번갈아 다시 해시하지 않습니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String METRIC_NAME = "auth.password-verify";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param strength      BCrypt cost (4~31)
+     * @param threads       작업 스레드 수
+     * @param queueCapacity 대기열 크기 (초과 시 즉시 거부)
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected")
+                .description("작업 풀이 가득 차 거부된 비밀번호 해시/검증 수")
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, METRIC_NAME);
+        log.info("[비밀번호] BCrypt strength={}, 작업 스레드 {}개, 대기열 {}", strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 strength 보다 낮을 때만 다시 해시합니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // $2a$10$... 형식 (두 번째 '$' 뒤 두 자리가 cost)
+        if (encodedPassword == null || encodedPassword.isEmpty() || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        int costIndex = encodedPassword.indexOf('$', 1) + 1;
+        if (costIndex == 0 || costIndex + 2 > encodedPassword.length()) {
+            return false;
+        }
+        char tens = encodedPassword.charAt(costIndex);
+        char ones = encodedPassword.charAt(costIndex + 1);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return false;
+        }
+        return (tens - '0') * 10 + (ones - '0') < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "비밀번호 검증 요청이 많아 처리할 수 없습니다.");
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.msa.auth.config;
 
 import com.msa.auth.client.dto.MemberDto;
+import com.msa.common.auth.key.JwtKeyRing;
+import com.msa.common.auth.model.RoleCodes;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,7 +16,6 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,8 +24,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secret ;
+    // 서명/검증 키는 공통 키링에서 관리 (jwt.active-kid 로 서명, kid 로 검증 키 조회)
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
 
     @Value("${jwt.access-token-validity}") // 30분 (밀리초)
     private long accessTokenValidity;
@@ -33,6 +34,10 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity}") // 7일 (밀리초)
     private long refreshTokenValidity;
 
+    // 압축 토큰 프로필: uid(숫자), rl(역할 코드), jti 만 담고 이름/이메일/sub 는 넣지 않음
+    @Value("${jwt.compact-claims:false}")
+    private boolean compactClaims;
+
     // JWT 토큰에서 사용자 이름 추출
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
@@ -43,6 +48,11 @@ public class JwtTokenProvider {
         return getClaimFromToken(token, Claims::getExpiration);
     }
 
+    // JWT 토큰에서 토큰 ID(jti) 추출
+    public String getTokenIdFromToken(String token) {
+        return getClaimFromToken(token, Claims::getId);
+    }
+
     // JWT 토큰에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
         final Claims claims = getAllClaimsFromToken(token);
@@ -66,11 +76,7 @@ public class JwtTokenProvider {
 
     // JWT 토큰에서 모든 클레임 추출
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtKeyRing.verify(token);
     }
 
     // 토큰 만료 여부 확인
@@ -81,12 +87,15 @@ public class JwtTokenProvider {
 
     // 액세스 토큰 생성 (Member 정보 포함)
     public String generateAccessToken(Authentication authentication, MemberDto memberDto) {
-        Map<String, Object> claims = new HashMap<>();
-        
         // 사용자 권한 정보 추가
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
+        
+        if (compactClaims) {
+            return generateCompactAccessToken(authorities, memberDto.getId());
+        }
+        Map<String, Object> claims = new HashMap<>();
         claims.put("authorities", authorities);
         
         // 권한 정보 추가 로그
@@ -96,7 +105,10 @@ public class JwtTokenProvider {
         claims.put("userId", memberDto.getId().toString());
         claims.put("name", memberDto.getName());
         claims.put("email", memberDto.getEmail());
+        // 폐기(로그아웃) 확인용 토큰 ID
+        claims.put(Claims.ID, UUID.randomUUID().toString());
         
+
         return doGenerateToken(claims, authentication.getName(), accessTokenValidity);
     }
 
@@ -121,9 +133,21 @@ public class JwtTokenProvider {
             claims.put("userId", user.getUsername());
         }
         
+        // 폐기(로그아웃) 확인용 토큰 ID
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        
         return doGenerateToken(claims, authentication.getName(), accessTokenValidity);
     }
 
+    // 압축 프로필 액세스 토큰 생성 (짧은 클레임 이름, 숫자 userId/역할 코드, 개인정보 없음)
+    private String generateCompactAccessToken(String authorities, Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("uid", userId);
+        claims.put("rl", RoleCodes.encode(authorities));
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        return doGenerateToken(claims, null, accessTokenValidity);
+    }
+
     // 리프레시 토큰 생성
     public String generateRefreshToken(Authentication authentication) {
         Map<String, Object> claims = new HashMap<>();
@@ -135,23 +159,19 @@ public class JwtTokenProvider {
     public String generateServiceToken() {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "service");
-        return Jwts.builder()
+        return jwtKeyRing.sign(Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 60000)) // 1분
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))); // 1분
     }
 
     // 토큰 생성 (내부 메서드)
     private String doGenerateToken(Map<String, Object> claims, String subject, long validity) {
-        return Jwts.builder()
+        return jwtKeyRing.sign(Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + validity))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + validity)));
     }
 
     // 토큰으로부터 인증 객체 생성
@@ -166,7 +186,7 @@ public class JwtTokenProvider {
     // 토큰 검증
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
+            jwtKeyRing.verify(token);
             return !isTokenExpired(token);
         } catch (Exception e) {
             return false;
@@ -182,10 +202,4 @@ public class JwtTokenProvider {
             return false;
         }
     }
-
-    // 서명 키 생성
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,22 @@
+package com.msa.auth.config;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * member-service 로드 밸런서 설정 (@LoadBalancerClient 전용, 컴포넌트 스캔 대상이 아니므로 @Configuration 을 붙이지 않음)
+ * Eureka 에 등록된 인스턴스 중 spring.cloud.loadbalancer.zone 과 같은 zone(metadata-map.zone)의 인스턴스를 우선 사용하고,
+ * 같은 zone 에 인스턴스가 없으면 전체 인스턴스로 분산합니다. 인스턴스 목록은 캐시하여 요청마다 조회하지 않습니다.
+ */
+public class MemberServiceLoadBalancerConfig {
+
+    @Bean
+    public ServiceInstanceListSupplier memberServiceInstanceListSupplier(ConfigurableApplicationContext context) {
+        return ServiceInstanceListSupplier.builder()
+                .withBlockingDiscoveryClient()
+                .withZonePreference()
+                .withCaching()
+                .build(context);
+    }
+}
@@ -1,11 +1,16 @@
 package com.msa.auth.config;
 
+import com.msa.auth.client.MemberProfileCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 public class RedisConfig {
 
@@ -22,4 +27,16 @@ public class RedisConfig {
         
         return template;
     }
+
+    // member-service 의 회원 정보 변경 알림을 받아 회원 캐시 항목 제거 (모든 auth 인스턴스가 구독)
+    @Bean
+    public RedisMessageListenerContainer memberChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       MemberProfileCache memberProfileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> memberProfileCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MemberProfileCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
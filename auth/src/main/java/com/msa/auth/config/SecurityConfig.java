@@ -1,5 +1,7 @@
 package com.msa.auth.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,10 +10,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -36,8 +39,20 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt 해시/검증은 전용 작업 풀에서 수행 (요청 스레드 수와 무관하게 동시 계산 수 제한)
+     * auth.password.bcrypt.calibrate=true 이면 기동 시 target-latency 에 맞는 strength 를 측정하여 사용
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.password.bcrypt.strength:10}") int strength,
+                                           @Value("${auth.password.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${auth.password.bcrypt.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${auth.password.verify.threads:0}") int threads,
+                                           @Value("${auth.password.verify.queue-capacity:64}") int queueCapacity) {
+        int resolvedStrength = calibrate ? BcryptStrengthCalibrator.calibrate(targetLatency) : strength;
+        // 0 이면 CPU 코어 수
+        int resolvedThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(resolvedStrength, resolvedThreads, queueCapacity, meterRegistry);
     }
 }
@@ -5,6 +5,7 @@ import com.msa.auth.dto.LogoutRequest;
 import com.msa.auth.dto.RefreshTokenRequest;
 import com.msa.auth.dto.TokenDto;
 import com.msa.auth.service.AuthService;
+import com.msa.common.dto.PreSerializedResponse;
 import com.msa.common.dto.ResponseDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +19,14 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
+    // 내용이 고정된 응답이므로 미리 직렬화한 본문으로 응답
+    private static final PreSerializedResponse PING = PreSerializedResponse.success("Auth Service Ping Success");
+
     private final AuthService authService;
 
     @GetMapping("/ping")
-    public ResponseDto<?> ping() {
-        return ResponseDto.success("Auth Service Ping Success");
+    public ResponseEntity<byte[]> ping() {
+        return PING.toResponseEntity();
     }
 
 
@@ -57,8 +61,12 @@ public class AuthController {
      * 로그아웃
      */
     @PostMapping("/logout")
-    public ResponseEntity<ResponseDto<?>> logout(@Valid @RequestBody LogoutRequest request) {
-        authService.logout(request.getRefreshToken());
+    public ResponseEntity<ResponseDto<?>> logout(@Valid @RequestBody LogoutRequest request,
+                                                 @RequestHeader(value = "Authorization", required = false) String authorization) {
+        // 액세스 토큰은 Authorization 헤더로 전달 (있으면 함께 폐기)
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        authService.logout(request.getRefreshToken(), accessToken);
         return ResponseEntity.ok(ResponseDto.success("로그아웃 성공"));
     }
 }
@@ -0,0 +1,39 @@
+package com.msa.auth.controller;
+
+import com.msa.common.dto.ErrorDto;
+import com.msa.common.dto.ResponseDto;
+import com.msa.common.exception.BaseException;
+import com.msa.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * auth-service 예외 응답 (common GlobalExceptionHandler 와 같은 본문 형식)
+ * 비밀번호 검증 풀 포화 등 503 응답에는 Retry-After 를 붙여 클라이언트가 잠시 후 재시도하도록 합니다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class AuthExceptionHandler {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ResponseDto<Object>> handleBaseException(BaseException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("[예외] {}: {}", errorCode.getCode(), e.getMessage());
+        ErrorDto errorDto = ErrorDto.builder()
+                .code(errorCode.getCode())
+                .message(e.getMessage())
+                .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(errorCode.getStatus());
+        if (errorCode.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return response.body(ResponseDto.fail(errorCode.getMessage(), errorDto));
+    }
+}
@@ -0,0 +1,40 @@
+package com.msa.auth.controller;
+
+import com.msa.common.auth.key.JwkSet;
+import com.msa.common.auth.key.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 토큰 검증용 공개 키(JWKS) 배포
+ * 본문과 강한 ETag 는 키 교체 시 JwtKeyRing 이 한 번만 만들어 두며,
+ * If-None-Match 가 일치하면 본문 없이 304 로 응답합니다.
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final MediaType JWK_SET_JSON = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/jwks")
+    public ResponseEntity<byte[]> jwks(WebRequest request) {
+        JwkSet jwks = jwtKeyRing.jwks();
+        if (request.checkNotModified(jwks.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(jwks.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(JWK_SET_JSON)
+                .body(jwks.json());
+    }
+}
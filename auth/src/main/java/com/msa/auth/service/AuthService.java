@@ -1,6 +1,6 @@
 package com.msa.auth.service;
 
-import com.msa.auth.client.MemberServiceClient;
+import com.msa.auth.client.MemberProfileCache;
 import com.msa.auth.client.dto.MemberDto;
 import com.msa.auth.config.JwtTokenProvider;
 import com.msa.auth.dto.LoginRequest;
@@ -13,7 +13,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -23,7 +22,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final MemberServiceClient memberServiceClient;
+    private final RevokedTokenService revokedTokenService;
+    private final MemberProfileCache memberProfileCache;
     
     @Value("${jwt.refresh-token-validity:604800000}") // 7일 (밀리초)
     private long refreshTokenValidity;
@@ -34,7 +34,6 @@ public class AuthService {
     /**
      * 로그인
      */
-    @Transactional
     public TokenDto login(LoginRequest loginRequest) {
         log.info("[로그인] 시도: {}", loginRequest.getUsername());
         
@@ -56,8 +55,8 @@ public class AuthService {
         }
         
         try {
-            // Member 서비스에서 사용자 정보 조회
-            MemberDto memberDto = memberServiceClient.getMemberByUsername(loginRequest.getUsername());
+            // 인증 과정에서 조회한 사용자 정보 사용 (Member 서비스 재호출 없음)
+            MemberDto memberDto = memberOf(authentication, loginRequest.getUsername());
             
             // 토큰 생성 (Member 서비스에서 가져온 정보 포함)
             String accessToken = jwtTokenProvider.generateAccessToken(authentication, memberDto);
@@ -84,7 +83,6 @@ public class AuthService {
     /**
      * 리프레시 토큰으로 새 액세스 토큰 발급
      */
-    @Transactional
     public TokenDto refreshToken(String refreshToken) {
         // 리프레시 토큰 검증
         if (!jwtTokenProvider.validateToken(refreshToken)) {
@@ -107,8 +105,8 @@ public class AuthService {
         Authentication authentication = jwtTokenProvider.getAuthentication(refreshToken);
         
         try {
-            // Member 서비스에서 최신 사용자 정보 조회
-            MemberDto memberDto = memberServiceClient.getMemberByUsername(username);
+            // 사용자 정보 조회 (짧은 기간 캐시된 정보 사용, 변경 시 Member 서비스가 무효화)
+            MemberDto memberDto = memberProfileCache.getMember(username);
             
             // 최신 정보로 토큰 생성
             String newAccessToken = jwtTokenProvider.generateAccessToken(authentication, memberDto);
@@ -134,13 +132,29 @@ public class AuthService {
 
     /**
      * 로그아웃
+     * 액세스 토큰이 함께 전달되면 만료 전까지 게이트웨이에서 거부되도록 폐기 목록에 추가합니다.
      */
-    @Transactional
-    public void logout(String refreshToken) {
+    public void logout(String refreshToken, String accessToken) {
         if (jwtTokenProvider.validateToken(refreshToken)) {
             String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
             refreshTokenService.deleteByUsername(username);
         }
+        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
+            String tokenId = jwtTokenProvider.getTokenIdFromToken(accessToken);
+            if (tokenId != null) {
+                revokedTokenService.revoke(tokenId, jwtTokenProvider.getExpirationDateFromToken(accessToken));
+            }
+        }
+    }
+
+    /**
+     * 인증 주체에 담긴 회원 정보 (다른 방식으로 인증된 경우에만 Member 서비스에서 조회)
+     */
+    private MemberDto memberOf(Authentication authentication, String username) {
+        if (authentication.getPrincipal() instanceof MemberUserDetails memberUserDetails) {
+            return memberUserDetails.getMember();
+        }
+        return memberProfileCache.getMember(username);
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.msa.auth.service;
+
+import com.msa.auth.client.dto.MemberDto;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Member 서비스에서 조회한 회원 정보를 함께 담는 인증 주체
+ * 로그인 시 인증 과정에서 조회한 MemberDto 를 토큰 클레임 생성에 그대로 사용하여
+ * Member 서비스를 다시 호출하지 않습니다.
+ */
+public class MemberUserDetails extends User {
+
+    private final MemberDto member;
+
+    public MemberUserDetails(MemberDto member, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(member.getUsername(), password, authorities);
+        this.member = member;
+    }
+
+    public MemberDto getMember() {
+        return member;
+    }
+
+    /**
+     * 인증 후 비밀번호를 지울 때 회원 정보의 비밀번호도 함께 지웁니다.
+     */
+    @Override
+    public void eraseCredentials() {
+        super.eraseCredentials();
+        member.setPassword(null);
+    }
+}
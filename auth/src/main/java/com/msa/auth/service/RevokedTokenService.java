@@ -0,0 +1,44 @@
+package com.msa.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 액세스 토큰(jti) 저장소
+ * - revoked_token:{jti}: 게이트웨이가 블룸 필터 양성일 때 확인하는 키 (토큰 만료 시각에 삭제)
+ * - revoked_tokens: jti 를 만료 시각(밀리초) 점수로 담은 정렬 집합 (게이트웨이가 주기적으로 읽어 블룸 필터를 만듦)
+ * 만료된 항목은 폐기할 때마다 정렬 집합에서 함께 정리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevokedTokenService {
+
+    private static final String REVOKED_TOKEN_PREFIX = "revoked_token:";
+    private static final String REVOKED_TOKENS_KEY = "revoked_tokens";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 액세스 토큰을 만료 시각까지 폐기 목록에 추가합니다.
+     *
+     * @param tokenId   jti 클레임
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void revoke(String tokenId, Date expiresAt) {
+        long now = System.currentTimeMillis();
+        long ttl = expiresAt.getTime() - now;
+        if (ttl <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(REVOKED_TOKEN_PREFIX + tokenId, "1", ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenId, expiresAt.getTime());
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, 0, now);
+        log.debug("[토큰 폐기] jti={}, 남은 시간 {}ms", tokenId, ttl);
+    }
+}
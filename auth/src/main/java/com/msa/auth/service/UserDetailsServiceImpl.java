@@ -1,12 +1,15 @@
 package com.msa.auth.service;
 
+import com.msa.auth.client.MemberProfileCache;
 import com.msa.auth.client.MemberServiceClient;
 import com.msa.auth.client.dto.MemberDto;
+import com.msa.auth.client.dto.PasswordUpdateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,24 +19,25 @@ import java.util.Collections;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
+    private final MemberProfileCache memberProfileCache;
     private final MemberServiceClient memberServiceClient;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         try {
-            // Member 서비스에서 사용자 정보 조회
-            MemberDto memberDto = memberServiceClient.getMemberByUsername(username);
+            // Member 서비스에서 사용자 정보 조회 (비밀번호 해시는 password-ttl 안에서만 캐시 사용)
+            MemberDto memberDto = memberProfileCache.getMemberWithPassword(username);
 
             // 비밀번호 유효성 간단히 검사
             if (memberDto.getPassword() == null || memberDto.getPassword().isEmpty()) {
                 log.error("[인증] 비밀번호가 비어있습니다: {}", username);
             }
             
-            // 사용자 정보로 UserDetails 생성
-            UserDetails userDetails = new User(
-                    memberDto.getUsername(),
+            // 사용자 정보로 UserDetails 생성 (조회한 회원 정보는 토큰 생성에 재사용)
+            UserDetails userDetails = new MemberUserDetails(
+                    memberDto,
                     memberDto.getPassword() != null ? memberDto.getPassword() : "", // null 처리
                     Collections.singletonList(new SimpleGrantedAuthority(memberDto.getRole()))
             );
@@ -45,4 +49,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
         }
     }
+
+    /**
+     * 저장된 해시의 BCrypt cost 가 현재 설정보다 낮을 때 로그인 성공 후 호출됩니다. (DaoAuthenticationProvider)
+     * 저장에 실패해도 로그인은 계속 진행하며, 다음 로그인에서 다시 시도합니다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            memberServiceClient.updatePassword(user.getUsername(), new PasswordUpdateDto(newPassword));
+            log.info("[인증] 비밀번호 다시 해시: {}", user.getUsername());
+        } catch (Exception e) {
+            log.warn("[인증] 비밀번호 다시 해시 저장 실패: {}, 오류: {}", user.getUsername(), e.getMessage());
+            return user;
+        }
+        if (user instanceof MemberUserDetails memberUserDetails) {
+            return new MemberUserDetails(memberUserDetails.getMember(), newPassword, user.getAuthorities());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
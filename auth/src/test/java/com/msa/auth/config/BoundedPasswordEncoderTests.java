@@ -0,0 +1,123 @@
+package com.msa.auth.config;
+
+import com.msa.common.exception.BusinessException;
+import com.msa.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedPasswordEncoderTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final String encoded = new BCryptPasswordEncoder(4).encode("password");
+
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		if (encoder != null) {
+			encoder.close();
+		}
+	}
+
+	@Test
+	void matchesOnWorkerPool() {
+		encoder = new BoundedPasswordEncoder(4, 1, 1, meterRegistry);
+
+		assertThat(encoder.matches("password", encoded)).isTrue();
+		assertThat(encoder.matches("other", encoded)).isFalse();
+		assertThat(encoder.matches("password", encoder.encode("password"))).isTrue();
+	}
+
+	@Test
+	void rejectsWhenWorkerAndQueueAreFull() throws Exception {
+		encoder = new BoundedPasswordEncoder(4, 1, 1, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+
+		// 작업 스레드 하나를 점유하고 대기열 한 칸을 채움
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+				() -> encoder.matches(new BlockingPassword(started, release), encoded));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+				() -> encoder.matches(new BlockingPassword(new CountDownLatch(1), release), encoded));
+		await().atMost(Duration.ofSeconds(5)).until(
+				() -> meterRegistry.get("executor.queued").tag("name", "auth.password-verify").gauge().value() == 1);
+
+		assertThatThrownBy(() -> encoder.matches("password", encoded))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+		assertThat(meterRegistry.get("auth.password-verify.rejected").counter().count()).isEqualTo(1);
+
+		// 대기 중이던 요청은 거부되지 않고 처리됨
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void upgradesOnlyLowerCost() {
+		encoder = new BoundedPasswordEncoder(10, 1, 1, meterRegistry);
+
+		assertThat(encoder.upgradeEncoding("$2a$04$" + encoded.substring(7))).isTrue();
+		assertThat(encoder.upgradeEncoding("$2a$10$" + encoded.substring(7))).isFalse();
+		// 더 높은 strength 로 보정된 인스턴스가 만든 해시는 낮추지 않음
+		assertThat(encoder.upgradeEncoding("$2a$12$" + encoded.substring(7))).isFalse();
+		assertThat(encoder.upgradeEncoding("plain")).isFalse();
+		assertThat(encoder.upgradeEncoding(null)).isFalse();
+	}
+
+	@Test
+	void calibrationStaysWithinBounds() {
+		// cost 4 에서 1ms, cost 가 1 오를 때마다 두 배
+		assertThat(BcryptStrengthCalibrator.calibrate(Duration.ofMillis(100),
+				strength -> (1L << (strength - 4)) * 1_000_000)).isEqualTo(10);
+		// 가장 낮은 strength 도 목표를 넘으면 최소값
+		assertThat(BcryptStrengthCalibrator.calibrate(Duration.ofMillis(1), strength -> 10_000_000)).isEqualTo(4);
+		// 목표가 아무리 커도 최대값을 넘지 않음
+		assertThat(BcryptStrengthCalibrator.calibrate(Duration.ofHours(1), strength -> 1)).isEqualTo(16);
+	}
+
+	/**
+	 * BCrypt 가 비밀번호를 읽을 때 release 될 때까지 작업 스레드를 붙잡는 비밀번호
+	 */
+	private record BlockingPassword(CountDownLatch started, CountDownLatch release) implements CharSequence {
+
+		@Override
+		public String toString() {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "password";
+		}
+
+		@Override
+		public int length() {
+			return toString().length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return toString().charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().subSequence(start, end);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.msa.auth.service;
+
+import com.msa.auth.client.MemberProfileCache;
+import com.msa.auth.client.MemberServiceClient;
+import com.msa.auth.client.dto.MemberDto;
+import com.msa.auth.client.dto.PasswordUpdateDto;
+import com.msa.auth.config.BoundedPasswordEncoder;
+import com.msa.auth.config.JwtTokenProvider;
+import com.msa.auth.dto.LoginRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTests {
+
+	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+	private MemberServiceClient memberServiceClient;
+	private JwtTokenProvider jwtTokenProvider;
+	private AuthService authService;
+
+	@BeforeEach
+	void setUp() {
+		memberServiceClient = mock(MemberServiceClient.class);
+		jwtTokenProvider = mock(JwtTokenProvider.class);
+		when(jwtTokenProvider.generateAccessToken(any(Authentication.class), any(MemberDto.class))).thenReturn("access");
+		when(jwtTokenProvider.generateRefreshToken(any(Authentication.class))).thenReturn("refresh");
+
+		authService = newAuthService(passwordEncoder);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void loginCallsMemberServiceOnce() {
+		givenMember();
+
+		authService.login(new LoginRequest("user", "password"));
+
+		verify(memberServiceClient, times(1)).getMemberByUsername("user");
+
+		// 인증 시 조회한 회원 정보로 토큰 생성 (비밀번호는 인증 후 지워짐)
+		ArgumentCaptor<MemberDto> member = ArgumentCaptor.forClass(MemberDto.class);
+		verify(jwtTokenProvider).generateAccessToken(any(Authentication.class), member.capture());
+		assertThat(member.getValue().getId()).isEqualTo(7L);
+		assertThat(member.getValue().getEmail()).isEqualTo("user@example.com");
+		assertThat(member.getValue().getPassword()).isNull();
+	}
+
+	@Test
+	void repeatedLoginWithinPasswordWindowUsesCache() {
+		givenMember();
+
+		authService.login(new LoginRequest("user", "password"));
+		authService.login(new LoginRequest("user", "password"));
+
+		verify(memberServiceClient, times(1)).getMemberByUsername("user");
+	}
+
+	@Test
+	void loginRehashesLowerCostPassword() {
+		givenMember();
+
+		try (BoundedPasswordEncoder upgradingEncoder = new BoundedPasswordEncoder(5, 1, 4, new SimpleMeterRegistry())) {
+			newAuthService(upgradingEncoder).login(new LoginRequest("user", "password"));
+
+			ArgumentCaptor<PasswordUpdateDto> update = ArgumentCaptor.forClass(PasswordUpdateDto.class);
+			verify(memberServiceClient).updatePassword(eq("user"), update.capture());
+			assertThat(update.getValue().getPassword()).startsWith("$2a$05$");
+			assertThat(passwordEncoder.matches("password", update.getValue().getPassword())).isTrue();
+		}
+	}
+
+	@Test
+	void loginKeepsHigherCostPassword() {
+		givenMember(new BCryptPasswordEncoder(6));
+
+		try (BoundedPasswordEncoder lowerEncoder = new BoundedPasswordEncoder(5, 1, 4, new SimpleMeterRegistry())) {
+			newAuthService(lowerEncoder).login(new LoginRequest("user", "password"));
+
+			verify(memberServiceClient, never()).updatePassword(anyString(), any(PasswordUpdateDto.class));
+		}
+	}
+
+	private AuthService newAuthService(PasswordEncoder encoder) {
+		MemberProfileCache memberProfileCache = new MemberProfileCache(memberServiceClient, new SimpleMeterRegistry(),
+				true, Duration.ofSeconds(30), Duration.ofSeconds(10), 100);
+		UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(memberProfileCache, memberServiceClient);
+		DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(userDetailsService);
+		authenticationProvider.setPasswordEncoder(encoder);
+		authenticationProvider.setUserDetailsPasswordService(userDetailsService);
+
+		AuthService service = new AuthService(new ProviderManager(authenticationProvider), jwtTokenProvider,
+				mock(RefreshTokenService.class), mock(RevokedTokenService.class), memberProfileCache);
+		ReflectionTestUtils.setField(service, "accessTokenValidity", 1_800_000L);
+		return service;
+	}
+
+	private void givenMember() {
+		givenMember(passwordEncoder);
+	}
+
+	private void givenMember(PasswordEncoder encoder) {
+		when(memberServiceClient.getMemberByUsername(anyString())).thenAnswer(invocation -> MemberDto.builder()
+				.id(7L)
+				.username("user")
+				.password(encoder.encode("password"))
+				.name("사용자")
+				.email("user@example.com")
+				.role("ROLE_USER")
+				.build());
+	}
+}
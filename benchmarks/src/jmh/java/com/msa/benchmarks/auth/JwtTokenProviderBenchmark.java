@@ -0,0 +1,74 @@
+package com.msa.benchmarks.auth;
+
+import com.msa.auth.client.dto.MemberDto;
+import com.msa.auth.config.JwtTokenProvider;
+import com.msa.common.auth.key.JwtKeyRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * auth-service 토큰 발급/검증 비용 (로그인, 토큰 재발급 경로)
+ * - generateAccessToken: 회원 정보를 담은 액세스 토큰 생성 (HS256 서명 포함)
+ * - validateToken: 서명 검증 + 만료 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private MemberDto member;
+    private String token;
+
+    @Setup
+    public void setup() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(environment);
+        jwtKeyRing.init();
+
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtKeyRing", jwtKeyRing);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidity", 1_800_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidity", 604_800_000L);
+
+        authentication = new UsernamePasswordAuthenticationToken("benchmark-user", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        member = MemberDto.builder()
+                .id(1L)
+                .username("benchmark-user")
+                .name("benchmark")
+                .email("benchmark@example.com")
+                .role("USER")
+                .build();
+        token = jwtTokenProvider.generateAccessToken(authentication, member);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(authentication, member);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+}
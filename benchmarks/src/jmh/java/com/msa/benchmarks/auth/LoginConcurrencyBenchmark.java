@@ -0,0 +1,153 @@
+package com.msa.benchmarks.auth;
+
+import com.msa.auth.client.dto.MemberDto;
+import com.msa.auth.config.JwtTokenProvider;
+import com.msa.common.auth.key.JwtKeyRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 로그인 처리량/지연 비교 (플랫폼 스레드 풀 vs 가상 스레드, auth-service virtual-threads 프로필)
+ * - platform: Tomcat 기본 요청 스레드 수(200)와 같은 고정 풀
+ * - virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true)
+ * 로그인 한 건은 member-service 호출(Feign), 토큰 발급(실제 HS256 서명), Redis 저장 순서로 처리하며
+ * 외부 호출은 sleep 으로 대신합니다. BCrypt 는 두 모드 모두 별도 작업 풀(auth.password.verify)에서 실행되므로 제외합니다.
+ * 한 번의 측정은 concurrency 건을 동시에 요청하고 모두 끝날 때까지의 시간입니다. (처리량 = concurrency / 측정값)
+ * 두 모드 모두 같은 힙/스레드 스택 크기로 실행하며, 반복마다 개별 로그인의 p99 지연을 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms256m", "-Xmx256m", "-Xss1m"})
+public class LoginConcurrencyBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+    private static final int PLATFORM_THREADS = 200;
+    private static final long MEMBER_SERVICE_MILLIS = 10;
+    private static final long REDIS_MILLIS = 2;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"200", "1000"})
+    private int concurrency;
+
+    private ExecutorService executorService;
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private MemberDto member;
+
+    // 반복(iteration) 동안의 개별 로그인 지연 (나노초)
+    private long[] latencies;
+    private int recorded;
+
+    @Setup
+    public void setup() {
+        executorService = "virtual".equals(executor)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(environment);
+        jwtKeyRing.init();
+
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtKeyRing", jwtKeyRing);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidity", 1_800_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidity", 604_800_000L);
+
+        authentication = new UsernamePasswordAuthenticationToken("benchmark-user", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        member = MemberDto.builder()
+                .id(1L)
+                .username("benchmark-user")
+                .name("benchmark")
+                .email("benchmark@example.com")
+                .role("USER")
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLatencies() {
+        latencies = new long[concurrency * 64];
+        recorded = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPercentiles() {
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        System.out.printf("%n[%s, concurrency=%d] logins=%d p50=%.1fms p99=%.1fms%n", executor, concurrency,
+                recorded, sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public void concurrentLogins() throws InterruptedException {
+        long[] batch = new long[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            long submitted = System.nanoTime();
+            executorService.execute(() -> {
+                try {
+                    login();
+                } finally {
+                    batch[index] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        record(batch);
+    }
+
+    private void login() {
+        try {
+            // member-service 회원 조회 (Feign)
+            Thread.sleep(MEMBER_SERVICE_MILLIS);
+            jwtTokenProvider.generateAccessToken(authentication, member);
+            jwtTokenProvider.generateRefreshToken(authentication);
+            // 리프레시 토큰 저장 (Redis)
+            Thread.sleep(REDIS_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(long[] batch) {
+        if (recorded + batch.length > latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        System.arraycopy(batch, 0, latencies, recorded, batch.length);
+        recorded += batch.length;
+    }
+}
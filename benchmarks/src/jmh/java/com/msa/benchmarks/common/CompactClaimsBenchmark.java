@@ -0,0 +1,91 @@
+package com.msa.benchmarks.common;
+
+import com.msa.common.auth.model.RoleCodes;
+import com.msa.common.auth.model.TokenClaims;
+import com.msa.common.auth.util.JwtUtil;
+import com.msa.gateway.auth.JwtTokenVerifier;
+import com.msa.gateway.auth.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 클레임 프로필별 파싱 비용 비교 (jwt.compact-claims)
+ * - legacy: sub, userId(문자열), name, email, authorities, jti
+ * - compact: uid(숫자), rl(역할 코드), jti (개인정보 없음)
+ * 토큰 길이는 setup 에서 출력합니다. (예: gradle jmh -PjmhIncludes=CompactClaims)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompactClaimsBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    @Param({"legacy", "compact"})
+    private String profile;
+
+    private String token;
+    private JwtUtil jwtUtil;
+    private JwtTokenVerifier verifier;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> claims = new HashMap<>();
+        String subject = null;
+        if ("compact".equals(profile)) {
+            claims.put("uid", 12345L);
+            claims.put("rl", RoleCodes.encode("ROLE_USER"));
+        } else {
+            claims.put("authorities", "ROLE_USER");
+            claims.put("userId", "12345");
+            claims.put("name", "benchmark");
+            claims.put("email", "benchmark@example.com");
+            subject = "benchmark-user";
+        }
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        token = Jwts.builder()
+                .setClaims(claims)
+                .setSubject(subject)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        System.out.printf("%n[%s] token length: %d bytes%n", profile, token.length());
+
+        jwtUtil = new JwtUtil();
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        verifier = new JwtTokenVerifier(environment);
+        verifier.init();
+    }
+
+    @Benchmark
+    public TokenClaims downstreamDecode() {
+        return jwtUtil.decode(token);
+    }
+
+    @Benchmark
+    public VerifiedToken gatewayVerify() {
+        return VerifiedToken.from(verifier.verify(token));
+    }
+}
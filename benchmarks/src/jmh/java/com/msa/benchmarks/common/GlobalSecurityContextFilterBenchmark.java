@@ -0,0 +1,105 @@
+package com.msa.benchmarks.common;
+
+import com.msa.common.auth.filter.GlobalSecurityContextFilter;
+import com.msa.common.auth.key.JwtKeyRing;
+import com.msa.common.auth.util.GatewayHeaderVerifier;
+import com.msa.common.auth.util.JwtUtil;
+import com.msa.gateway.auth.IdentityHeaderSigner;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 서비스 GlobalSecurityContextFilter 요청당 비용 (모의 서블릿 요청으로 필터 전체 실행)
+ * - jwt: Authorization 헤더의 JWT 서명을 키링으로 검증하고 클레임을 디코딩해 인증 객체 생성 (기본 모드)
+ * - trusted: 게이트웨이가 서명한 X-Auth-* 헤더만 검증해 인증 객체 생성 (security.trusted-gateway.enabled=true)
+ * 요청마다 새 요청 객체를 만들고 체인에서 SecurityContext 를 비웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlobalSecurityContextFilterBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    @Param({"jwt", "trusted"})
+    private String mode;
+
+    private GlobalSecurityContextFilter filter;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private String authorization;
+    private String expires;
+    private String signature;
+
+    @Setup
+    public void setup() {
+        authorization = "Bearer " + Jwts.builder()
+                .setClaims(Map.of("authorities", "ROLE_USER", "userId", "1"))
+                .setSubject("benchmark-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        // 게이트웨이 IdentityHeaderSigner 와 같은 서명 (userId\nusername\nrole\nexpires\ntokenId)
+        expires = Long.toString(System.currentTimeMillis() / 1000 + 3600);
+        signature = new IdentityHeaderSigner(SECRET).sign("1", "benchmark-user", "USER", expires, "benchmark-jti");
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(environment);
+        jwtKeyRing.init();
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtKeyRing", jwtKeyRing);
+
+        filter = new GlobalSecurityContextFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "gatewayHeaderVerifier",
+                new GatewayHeaderVerifier("trusted".equals(mode), SECRET));
+        response = new MockHttpServletResponse();
+        chain = (request, response) -> {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null) {
+                throw new IllegalStateException("not authenticated");
+            }
+            SecurityContextHolder.clearContext();
+        };
+    }
+
+    @Benchmark
+    public void doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        if ("trusted".equals(mode)) {
+            request.addHeader(GatewayHeaderVerifier.USER_ID_HEADER, "1");
+            request.addHeader(GatewayHeaderVerifier.USERNAME_HEADER, "benchmark-user");
+            request.addHeader(GatewayHeaderVerifier.ROLE_HEADER, "USER");
+            request.addHeader(GatewayHeaderVerifier.EXPIRES_HEADER, expires);
+            request.addHeader(GatewayHeaderVerifier.TOKEN_ID_HEADER, "benchmark-jti");
+            request.addHeader(GatewayHeaderVerifier.SIGNATURE_HEADER, signature);
+        } else {
+            request.addHeader("Authorization", authorization);
+        }
+        filter.doFilter(request, response, chain);
+    }
+}
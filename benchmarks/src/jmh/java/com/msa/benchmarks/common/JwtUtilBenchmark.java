@@ -0,0 +1,106 @@
+package com.msa.benchmarks.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msa.common.auth.model.TokenClaims;
+import com.msa.common.auth.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 서비스 JwtUtil 의 요청당 페이로드 디코딩 비용 비교
+ * - legacyParseClaims / legacyValidateToken: 기존 방식 (정규식 split + 호출마다 ObjectMapper 생성,
+ *   validateToken 은 split 세 번 + 파싱 두 번)
+ * - parseClaims: JwtUtil 의 전체 클레임 Map 파싱 (공유 ObjectReader)
+ * - decode / validateToken: JwtUtil (인덱스 스캔 + 재사용 버퍼 Base64 디코딩 + 스트리밍 파서로 필요한 필드만 읽음)
+ * 할당량 비교는 -prof gc 로 실행합니다. (예: gradle jmh -PjmhIncludes=JwtUtil)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    private String token;
+    private JwtUtil jwtUtil;
+
+    @Setup
+    public void setup() {
+        token = Jwts.builder()
+                .setClaims(Map.of("authorities", "ROLE_USER", "userId", "1",
+                        "name", "benchmark", "email", "benchmark@example.com"))
+                .setSubject("benchmark-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        jwtUtil = new JwtUtil();
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyParseClaims() {
+        return legacyParse(token);
+    }
+
+    @Benchmark
+    public boolean legacyValidateToken() {
+        String[] chunks = token.split("\\.");
+        if (chunks.length != 3) {
+            return false;
+        }
+        Map<String, Object> claims = legacyParse(token);
+        if (claims.isEmpty()) {
+            return false;
+        }
+        if (claims.containsKey("exp")) {
+            Map<String, Object> again = legacyParse(token);
+            Object exp = again.get("exp");
+            return !(exp instanceof Number number && new Date(number.longValue() * 1000).before(new Date()));
+        }
+        return true;
+    }
+
+    @Benchmark
+    public Map<String, Object> parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public TokenClaims decode() {
+        return jwtUtil.decode(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> legacyParse(String token) {
+        try {
+            String[] chunks = token.split("\\.");
+            if (chunks.length < 2) {
+                return Collections.emptyMap();
+            }
+            String payload = new String(Base64.getUrlDecoder().decode(chunks[1]));
+            return new ObjectMapper().readValue(payload, Map.class);
+        } catch (Exception e) {
+            return Collections.emptyMap();
+        }
+    }
+}
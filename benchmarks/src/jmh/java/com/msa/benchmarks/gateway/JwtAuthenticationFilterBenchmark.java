@@ -0,0 +1,111 @@
+package com.msa.benchmarks.gateway;
+
+import com.msa.gateway.auth.IdentityHeaderSigner;
+import com.msa.gateway.auth.JwtTokenVerifier;
+import com.msa.gateway.auth.PublicPathMatcher;
+import com.msa.gateway.auth.TokenRevocationChecker;
+import com.msa.gateway.auth.VerifiedTokenCache;
+import com.msa.gateway.error.ErrorResponseWriter;
+import com.msa.gateway.filter.JwtAuthenticationFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 JwtAuthenticationFilter 요청당 비용 (모의 exchange 로 필터 전체 실행)
+ * 헤더 추출 → 토큰 검증 → 신원 헤더 서명/덧씌우기 → 폐기 필터 확인 → 체인 호출까지 포함합니다.
+ * tokenCache=false 는 매 요청 서명을 검증하고, true 는 VerifiedTokenCache 적중 경로입니다.
+ * passThrough 는 모의 exchange 생성과 체인 호출만 수행한 기준값이며, 필터 비용은 authenticate - passThrough 입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    @Param({"false", "true"})
+    private boolean tokenCache;
+
+    private GatewayFilter filter;
+    private GatewayFilterChain chain;
+    private MockServerHttpRequest request;
+
+    @Setup
+    public void setup() {
+        String token = Jwts.builder()
+                .setClaims(Map.of("authorities", "ROLE_USER", "userId", "1",
+                        Claims.ID, UUID.randomUUID().toString()))
+                .setSubject("benchmark-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        JwtTokenVerifier verifier = new JwtTokenVerifier(environment);
+        verifier.init();
+        PublicPathMatcher publicPathMatcher = new PublicPathMatcher(environment);
+        publicPathMatcher.init();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Redis 없이 실행 (폐기 목록은 비어 있는 필터로 확인만 수행)
+        TokenRevocationChecker revocationChecker = new TokenRevocationChecker(
+                new DefaultListableBeanFactory().getBeanProvider(ReactiveStringRedisTemplate.class),
+                meterRegistry, true, Duration.ofSeconds(5), 0.001);
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(verifier, meterRegistry, tokenCache, 1000),
+                publicPathMatcher,
+                new ErrorResponseWriter(meterRegistry, 10),
+                new IdentityHeaderSigner(SECRET),
+                revocationChecker)
+                .apply(new JwtAuthenticationFilter.Config());
+
+        chain = exchange -> {
+            // 하위 서비스로 전달될 신원 헤더를 읽어 덧씌우기 비용까지 포함
+            exchange.getRequest().getHeaders().getFirst("X-Auth-UserId");
+            return Mono.empty();
+        };
+        request = MockServerHttpRequest.get("/api/members/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build();
+    }
+
+    @Benchmark
+    public Void authenticate() {
+        return filter.filter(MockServerWebExchange.from(request), chain).block();
+    }
+
+    @Benchmark
+    public Void passThrough() {
+        return chain.filter(MockServerWebExchange.from(request)).block();
+    }
+}
@@ -0,0 +1,94 @@
+package com.msa.benchmarks.gateway;
+
+import com.msa.gateway.auth.JwtTokenVerifier;
+import com.msa.gateway.auth.VerifiedToken;
+import com.msa.gateway.auth.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 JWT 검증 요청당 비용 비교
+ * - perRequestParser: 기존 방식 (요청마다 서명 키와 JwtParser 를 두 번 생성하여 두 번 파싱)
+ * - cachedParser: JwtTokenVerifier (기동 시 생성한 파서로 한 번만 파싱)
+ * - verifiedTokenCacheHit: VerifiedTokenCache 적중 (서명 검증 생략, 다이제스트 계산만 수행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParserBenchmark {
+
+    private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+
+    private String token;
+    private JwtTokenVerifier verifier;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setup() {
+        token = Jwts.builder()
+                .setClaims(Map.of("authorities", "ROLE_USER", "userId", "1"))
+                .setSubject("benchmark-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("jwt.secret", SECRET)));
+        verifier = new JwtTokenVerifier(environment);
+        verifier.init();
+
+        verifiedTokenCache = new VerifiedTokenCache(verifier, new SimpleMeterRegistry(), true, 1000);
+        verifiedTokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public Claims perRequestParser() {
+        // isValidToken + extractClaims 에서 각각 파싱하던 기존 흐름
+        Claims validated = legacyExtractClaims(token);
+        if (validated.getExpiration().before(new Date())) {
+            throw new IllegalStateException("expired");
+        }
+        return legacyExtractClaims(token);
+    }
+
+    @Benchmark
+    public Claims cachedParser() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifiedTokenCacheHit() {
+        return verifiedTokenCache.resolve(token);
+    }
+
+    private static Claims legacyExtractClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key legacySigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
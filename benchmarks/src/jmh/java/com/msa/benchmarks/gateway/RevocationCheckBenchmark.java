@@ -0,0 +1,55 @@
+package com.msa.benchmarks.gateway;
+
+import com.msa.gateway.auth.RevokedTokenBloomFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 토큰 폐기 확인 비용 (폐기되지 않은 토큰, 즉 블룸 필터 음성 경로)
+ * revoked 개의 jti 로 만든 필터에 폐기되지 않은 jti 를 조회합니다. 목표: 1us 미만
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RevocationCheckBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "100000"})
+    private int revoked;
+
+    private RevokedTokenBloomFilter filter;
+    private String[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<String> tokenIds = new ArrayList<>(revoked);
+        for (int i = 0; i < revoked; i++) {
+            tokenIds.add(UUID.randomUUID().toString());
+        }
+        filter = RevokedTokenBloomFilter.of(tokenIds, 0.001);
+
+        probes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean cleanToken() {
+        String probe = probes[next++ & (PROBES - 1)];
+        return filter.mightContain(probe);
+    }
+}
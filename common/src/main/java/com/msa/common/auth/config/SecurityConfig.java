@@ -46,6 +46,8 @@ public class SecurityConfig {
                         .accessDeniedHandler(customAccessDeniedHandler)
                 )
                 .authorizeHttpRequests((auth) -> auth
+                        // 서비스 간 내부 API 는 서비스 토큰(X-Service-Token)으로 인증된 요청만 허용
+                        .requestMatchers("/api/*/internal/**").hasRole(GlobalSecurityContextFilter.SERVICE_ROLE)
                         .anyRequest().permitAll())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -1,6 +1,8 @@
 package com.msa.common.auth.filter;
 
-import com.msa.common.auth.model.GlobalCustomUserDetails;
+import com.msa.common.auth.model.GlobalAuthentication;
+import com.msa.common.auth.model.TokenClaims;
+import com.msa.common.auth.util.GatewayHeaderVerifier;
 import com.msa.common.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,25 +10,60 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Map;
 
 @Component
 @Slf4j
 public class GlobalSecurityContextFilter extends OncePerRequestFilter {
 
+    /**
+     * 서비스 간 호출의 서비스 토큰 헤더 (auth-service JwtTokenProvider.generateServiceToken 으로 발급)
+     */
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
+    /**
+     * 서비스 토큰으로 인증된 요청의 역할 (내부 API 접근 권한, 사용자 토큰이나 헤더로는 부여하지 않음)
+     */
+    public static final String SERVICE_ROLE = "SERVICE";
+
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private GatewayHeaderVerifier gatewayHeaderVerifier;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) 
             throws ServletException, IOException {
+        // 서비스 간 내부 호출: 키링으로 서명을 검증한 서비스 토큰만 SERVICE 역할로 인증
+        String serviceToken = request.getHeader(SERVICE_TOKEN_HEADER);
+        if (serviceToken != null) {
+            if (isServiceToken(serviceToken)) {
+                SecurityContextHolder.getContext().setAuthentication(new GlobalAuthentication(SERVICE_ROLE, "service"));
+            } else {
+                log.debug("[필터] 서비스 토큰 검증 실패: {}", request.getRequestURI());
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 신뢰 게이트웨이 모드: 게이트웨이가 서명한 X-Auth-* 헤더만 사용하고 JWT 는 디코딩하지 않음
+        if (gatewayHeaderVerifier.isEnabled()) {
+            if (gatewayHeaderVerifier.verify(request)) {
+                String role = request.getHeader(GatewayHeaderVerifier.ROLE_HEADER);
+                String userId = request.getHeader(GatewayHeaderVerifier.USER_ID_HEADER);
+                setUserAuthentication(role != null ? role : "USER", userId);
+            } else if (request.getHeader(GatewayHeaderVerifier.SIGNATURE_HEADER) != null) {
+                log.debug("[필터] 게이트웨이 헤더 서명 불일치: {}", request.getRequestURI());
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // 1. Authorization 헤더에서 JWT 토큰 추출
         String authorizationHeader = request.getHeader("Authorization");
         
@@ -35,34 +72,17 @@ public class GlobalSecurityContextFilter extends OncePerRequestFilter {
                 // 2. "Bearer " 접두사 제거하여 토큰 추출
                 String token = authorizationHeader.substring(7);
                 
-                // 3. 토큰 유효성 검증 및 클레임 추출
-                Map<String, Object> claims = jwtUtil.parseClaims(token);
-                if (claims.isEmpty()) {
-                    // 클레임이 비어있으면 처리하지 않고 다음 필터로 진행
-                    return;
-                }
+                // 3. 키링(kid 별 키, JWKS 공개 키 포함)으로 서명과 만료 시간을 검증한 뒤 클레임 추출
+                // 검증된 클레임만 요청 속성에 보관되어 이후 JwtUtil 호출에서 재사용됨
+                TokenClaims claims = jwtUtil.verify(request, token);
                 
                 // 4. 클레임에서 필요한 정보 추출
-                // 클레임에서 userId 추출 (여러 필드 시도)
-                String userId = null;
-                if (claims.containsKey("userId")) {
-                    userId = claims.get("userId").toString();
-                } else if (claims.containsKey("user_id")) {
-                    userId = claims.get("user_id").toString();
-                } else if (claims.containsKey("sub")) {
-                    userId = claims.get("sub").toString();
-                }
+                // 클레임에서 userId 추출 (userId, user_id, sub 순)
+                String userId = claims.userIdOrSubject();
                 
-                // 클레임에서 role 추출 (여러 필드 시도)
-                String role = null;
-                // 클레임에서 role 추출
-                if (claims.containsKey("authorities")) {
-                    role = claims.get("authorities").toString();
-                } else if (claims.containsKey("roles")) {
-                    role = claims.get("roles").toString();
-                } else if (claims.containsKey("role")) {
-                    role = claims.get("role").toString();
-                } else {
+                // 클레임에서 role 추출 (authorities, roles, role 순)
+                String role = claims.authorities();
+                if (role == null) {
                     // 기본 권한 설정
                     role = "USER";
                     log.debug("[필터] 클레임에 권한 정보 없음, 기본값 USER 사용");
@@ -71,39 +91,53 @@ public class GlobalSecurityContextFilter extends OncePerRequestFilter {
                 log.debug("[필터] 추출된 역할: {}", role);
                 
                 // ROLE_ 접두사 제거
-                if (role != null && role.startsWith("ROLE_")) {
+                if (role.startsWith("ROLE_")) {
                     String originalRole = role;
                     role = role.substring(5); // "ROLE_" 접두사 제거
                     log.debug("[필터] ROLE_ 접두사 제거: {} -> {}", originalRole, role);
                 }
                 
-                // userId가 유효한지 확인
-                if (userId == null || userId.isEmpty()) {
-                    return;
+                // 5. SecurityContext에 인증 정보 설정 (액세스 토큰이 아니거나 userId 가 없으면 인증하지 않음)
+                // 권한 목록은 역할별로 공유되며 요청당 인증 객체 하나만 생성
+                if (!claims.isEmpty() && userId != null && !userId.isEmpty()) {
+                    setUserAuthentication(role, userId);
                 }
-                
-                // 5. SecurityContext에 인증 정보 설정
-                GlobalCustomUserDetails customUserDetails = new GlobalCustomUserDetails(role, userId);
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                        customUserDetails, null, customUserDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception e) {
-                // 예외 발생 시 조용히 무시하고 다음 필터로 진행
-            }
-        } else {
-            // 기존 헤더 기반 인증도 유지 (게이트웨이에서 헤더 전달 방식 사용 시)
-            String role = request.getHeader("X-USER-ROLE");
-            String userId = request.getHeader("X-USER-ID");
-            
-            if (role != null && userId != null) {
-                // 문자열 형태의 userId를 직접 사용
-                GlobalCustomUserDetails customUserDetails = new GlobalCustomUserDetails(role, userId);
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                        customUserDetails, null, customUserDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 서명/만료 검증 실패 시 인증하지 않고 다음 필터로 진행
+                log.debug("[필터] 토큰 검증 실패: {}, {}", request.getRequestURI(), e.getMessage());
             }
         }
         
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 사용자 인증 정보를 설정합니다. SERVICE 역할은 서비스 토큰으로만 부여하므로 무시합니다.
+     * 쉼표로 구분된 여러 역할(예: USER,ADMIN) 중 하나라도 SERVICE 이면 인증하지 않습니다.
+     */
+    private void setUserAuthentication(String role, String userId) {
+        if (hasServiceRole(role)) {
+            log.debug("[필터] 사용자 정보에 서비스 역할 사용 불가: {}", userId);
+            return;
+        }
+        SecurityContextHolder.getContext().setAuthentication(new GlobalAuthentication(role, userId));
+    }
+
+    private static boolean hasServiceRole(String roles) {
+        for (String role : roles.split(",")) {
+            String trimmed = role.trim();
+            if (SERVICE_ROLE.equals(trimmed) || ("ROLE_" + SERVICE_ROLE).equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isServiceToken(String token) {
+        try {
+            return "service".equals(jwtUtil.verify(token).get("type"));
+        } catch (Exception e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package com.msa.common.auth.key;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공개 키 목록을 담은 JWKS(JSON Web Key Set) 문서
+ * 직렬화한 본문과 강한 ETag(본문 SHA-256)를 키 교체 시 한 번만 만들어 두고 그대로 응답합니다.
+ * HMAC 키는 비밀이므로 포함하지 않으며, RSA(RS*, PS*)와 EC(ES*) 공개 키만 포함합니다.
+ *
+ * @param json 직렬화된 JWKS 본문 (UTF-8)
+ * @param etag 강한 ETag (따옴표 포함)
+ */
+public record JwkSet(byte[] json, String etag) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 키 목록에서 공개 키만 골라 JWKS 문서를 만듭니다.
+     */
+    public static JwkSet of(Collection<JwtKey> keys) {
+        ObjectNode document = MAPPER.createObjectNode();
+        ArrayNode array = document.putArray("keys");
+        keys.stream()
+                .filter(key -> !key.algorithm().isHmac())
+                .sorted((left, right) -> left.kid().compareTo(right.kid()))
+                .forEach(key -> array.add(toJwk(key)));
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(document);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new JwkSet(json, "\"" + BASE64_URL.encodeToString(digest) + "\"");
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWKS 문서를 만들 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * JWKS 본문을 검증 전용 키 목록으로 변환합니다. 알 수 없는 kty/alg 항목은 건너뜁니다.
+     *
+     * @throws IllegalArgumentException 본문이 JWKS 형식이 아니면
+     */
+    public static List<JwtKey> parse(byte[] json) {
+        List<JwtKey> keys = new ArrayList<>();
+        try {
+            for (JsonNode jwk : MAPPER.readTree(json).path("keys")) {
+                JwtKey key = fromJwk(jwk);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWKS 문서를 읽을 수 없습니다.", e);
+        }
+        return keys;
+    }
+
+    private static ObjectNode toJwk(JwtKey key) {
+        ObjectNode jwk = MAPPER.createObjectNode();
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", key.algorithm().getValue());
+        if (key.verificationKey() instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", encodeUnsigned(rsa.getModulus(), 0));
+            jwk.put("e", encodeUnsigned(rsa.getPublicExponent(), 0));
+        } else if (key.verificationKey() instanceof ECPublicKey ec) {
+            int size = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", curveName(key.algorithm()));
+            jwk.put("x", encodeUnsigned(ec.getW().getAffineX(), size));
+            jwk.put("y", encodeUnsigned(ec.getW().getAffineY(), size));
+        } else {
+            throw new IllegalStateException("JWKS 로 공개할 수 없는 키입니다: " + key.kid());
+        }
+        return jwk;
+    }
+
+    private static JwtKey fromJwk(JsonNode jwk) throws GeneralSecurityException {
+        String kid = jwk.path("kid").asText(null);
+        String alg = jwk.path("alg").asText(null);
+        if (kid == null || alg == null) {
+            return null;
+        }
+        SignatureAlgorithm algorithm;
+        try {
+            algorithm = SignatureAlgorithm.forName(alg);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        PublicKey publicKey;
+        switch (jwk.path("kty").asText("")) {
+            case "RSA" -> {
+                if (!algorithm.isRsa()) {
+                    return null;
+                }
+                publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                        decodeUnsigned(jwk.path("n").asText()), decodeUnsigned(jwk.path("e").asText())));
+            }
+            case "EC" -> {
+                if (!algorithm.isEllipticCurve()) {
+                    return null;
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(standardCurveName(jwk.path("crv").asText())));
+                ECPoint point = new ECPoint(decodeUnsigned(jwk.path("x").asText()), decodeUnsigned(jwk.path("y").asText()));
+                publicKey = KeyFactory.getInstance("EC").generatePublic(
+                        new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+            }
+            default -> {
+                return null;
+            }
+        }
+        return new JwtKey(kid, algorithm, publicKey, null);
+    }
+
+    private static String curveName(SignatureAlgorithm algorithm) {
+        return switch (algorithm) {
+            case ES256 -> "P-256";
+            case ES384 -> "P-384";
+            case ES512 -> "P-521";
+            default -> throw new IllegalStateException("EC 알고리즘이 아닙니다: " + algorithm);
+        };
+    }
+
+    private static String standardCurveName(String crv) throws GeneralSecurityException {
+        return switch (crv) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new GeneralSecurityException("지원하지 않는 곡선입니다: " + crv);
+        };
+    }
+
+    /**
+     * 부호 없는 빅엔디언 바이트로 Base64URL 인코딩합니다. (size 가 0 보다 크면 앞을 0 으로 채움)
+     */
+    private static String encodeUnsigned(BigInteger value, int size) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < size) {
+            byte[] padded = new byte[size];
+            System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    private static BigInteger decodeUnsigned(String value) {
+        return new BigInteger(1, BASE64_URL_DECODER.decode(value));
+    }
+}
@@ -0,0 +1,135 @@
+package com.msa.common.auth.key;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * auth-service 의 JWKS 를 주기적으로 가져와 키링의 원격 공개 키로 적용합니다.
+ * 백그라운드 스레드에서만 실행되어 요청 처리 경로를 막지 않으며,
+ * 마지막 ETag 로 If-None-Match 를 보내 키가 그대로면 304 한 번으로 끝납니다.
+ * jwt.jwks.uri 가 lb://{서비스 이름}/... 이면 로드 밸런서(Eureka)로 인스턴스를 골라 조회합니다.
+ * 가져온 공개 키는 GlobalSecurityContextFilter 의 서명 검증(JwtUtil.verify)에 사용됩니다.
+ * jwt.jwks.uri 가 비어 있으면 동작하지 않습니다.
+ */
+@Slf4j
+@Component
+public class JwksRefresher {
+
+    private static final String LOAD_BALANCED_SCHEME = "lb";
+
+    private final JwtKeyRing jwtKeyRing;
+    private final ObjectProvider<LoadBalancerClient> loadBalancerClientProvider;
+    private final String uri;
+    private final Duration refreshInterval;
+    private final HttpClient httpClient;
+
+    private ScheduledExecutorService scheduler;
+
+    // 스케줄러 스레드에서만 접근
+    private String etag;
+
+    public JwksRefresher(JwtKeyRing jwtKeyRing,
+                         ObjectProvider<LoadBalancerClient> loadBalancerClientProvider,
+                         @Value("${jwt.jwks.uri:}") String uri,
+                         @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.loadBalancerClientProvider = loadBalancerClientProvider;
+        this.uri = uri;
+        this.refreshInterval = refreshInterval;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (uri.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 첫 조회도 비동기로 수행하여 기동을 지연시키지 않음
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void refresh() {
+        try {
+            URI target = resolve(URI.create(uri));
+            if (target == null) {
+                log.warn("[JWKS] 조회할 인스턴스 없음: {}", uri);
+                return;
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(target)
+                    .timeout(Duration.ofSeconds(5))
+                    .GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 304) {
+                return;
+            }
+            if (response.statusCode() != 200) {
+                log.warn("[JWKS] 조회 실패: {} {}", uri, response.statusCode());
+                return;
+            }
+
+            List<JwtKey> keys = JwkSet.parse(response.body());
+            jwtKeyRing.updateRemoteKeys(keys);
+            etag = response.headers().firstValue("ETag").orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 실패 시 이전 키를 그대로 사용하고 다음 주기에 다시 시도
+            log.warn("[JWKS] 조회 실패: {} {}", uri, e.getMessage());
+        }
+    }
+
+    /**
+     * lb:// 주소는 로드 밸런서가 고른 인스턴스 주소로 바꿉니다.
+     *
+     * @return 조회할 주소 (인스턴스가 없으면 null)
+     */
+    private URI resolve(URI configured) {
+        if (!LOAD_BALANCED_SCHEME.equals(configured.getScheme())) {
+            return configured;
+        }
+        LoadBalancerClient loadBalancerClient = loadBalancerClientProvider.getIfAvailable();
+        if (loadBalancerClient == null) {
+            throw new IllegalStateException("lb:// 주소를 사용하려면 로드 밸런서가 필요합니다: " + configured);
+        }
+        ServiceInstance instance = loadBalancerClient.choose(configured.getHost());
+        if (instance == null) {
+            return null;
+        }
+        String query = configured.getRawQuery() != null ? "?" + configured.getRawQuery() : "";
+        return URI.create(instance.getUri().toString() + configured.getRawPath() + query);
+    }
+}
@@ -0,0 +1,20 @@
+package com.msa.common.auth.key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+/**
+ * JWT 키링에 등록된 키 하나
+ *
+ * @param kid             JWT 헤더의 kid 값
+ * @param algorithm       서명 알고리즘 (HS256, RS256, ES256 등)
+ * @param verificationKey 서명 검증 키 (HMAC 은 비밀 키, 비대칭 알고리즘은 공개 키)
+ * @param signingKey      서명 키 (HMAC 은 비밀 키, 비대칭 알고리즘은 개인 키, 검증 전용이면 null)
+ */
+public record JwtKey(String kid, SignatureAlgorithm algorithm, Key verificationKey, Key signingKey) {
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+}
@@ -0,0 +1,280 @@
+package com.msa.common.auth.key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키링
+ * JWT 헤더의 kid 로 검증 키를 찾으며, 키 목록은 불변 스냅샷으로 보관하고 교체(rotate) 시 통째로 바꿉니다.
+ * 읽기 경로에는 잠금이 없어 키 교체 중에도 진행 중인 검증이 막히지 않습니다.
+ *
+ * 설정
+ * - jwt.secret: kid "default" 인 HMAC(HS256) 키 (kid 가 없는 토큰도 이 키로 검증)
+ * - jwt.keys[n]: kid, algorithm(HS256/RS256/ES256 등), secret(HMAC), public-key/private-key(Base64 DER 또는 PEM)
+ * - jwt.active-kid: 새 토큰 서명에 사용할 kid (없으면 "default")
+ * 교체 중에는 이전 키와 새 키를 함께 등록해 두고 active-kid 만 새 키로 바꿉니다.
+ * 공개 키만 등록하면 공유 비밀 없이 검증만 할 수 있습니다.
+ * JwksRefresher 가 가져온 원격 공개 키는 설정 키와 함께 조회되며, 같은 kid 면 설정 키가 우선합니다.
+ * JWKS 로 공개하는 문서(jwks)는 설정 키 중 공개 키만으로 키 교체 시 한 번 만들어 둡니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing implements SigningKeyResolver {
+
+    /**
+     * jwt.secret 으로 등록되는 키이자 kid 가 없는 토큰을 검증하는 키
+     */
+    public static final String DEFAULT_KID = "default";
+
+    private static final String PROPERTY_PREFIX = "jwt.";
+
+    private final Environment environment;
+    private final JwtParser parser;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 스냅샷을 다시 만들 때만 사용 (synchronized 메서드에서만 변경)
+    private List<JwtKey> configuredKeys = List.of();
+    private List<JwtKey> remoteKeys = List.of();
+    private String activeKid = DEFAULT_KID;
+
+    public JwtKeyRing(Environment environment) {
+        this.environment = environment;
+        // 키 조회는 이 리졸버가 스냅샷에서 하므로 파서는 한 번만 생성
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(this).build();
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 키링으로 서명을 검증하는 파서 (불변, 스레드 안전)
+     */
+    public JwtParser parser() {
+        return parser;
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     * 검증에 실패하면 JwtException(만료 시 ExpiredJwtException)이 발생합니다.
+     *
+     * @param token Bearer 접두사를 제거한 JWT 토큰
+     * @return 검증된 클레임
+     */
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 현재 서명 키(active-kid)로 서명하고 헤더에 kid 를 기록합니다.
+     *
+     * @param builder 클레임이 설정된 빌더
+     * @return 서명된 토큰
+     */
+    public String sign(JwtBuilder builder) {
+        JwtKey key = activeKey();
+        if (!key.canSign()) {
+            throw new IllegalStateException("서명 키가 없는 kid 입니다: " + key.kid());
+        }
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                .signWith(key.signingKey(), key.algorithm())
+                .compact();
+    }
+
+    /**
+     * 새 토큰 서명에 사용하는 키
+     */
+    public JwtKey activeKey() {
+        Snapshot current = snapshot;
+        JwtKey key = current.keys().get(current.activeKid());
+        if (key == null) {
+            throw new IllegalStateException("jwt.active-kid 에 해당하는 키가 없습니다: " + current.activeKid());
+        }
+        return key;
+    }
+
+    /**
+     * kid 로 키를 찾습니다.
+     *
+     * @return 키 (없으면 null)
+     */
+    public JwtKey find(String kid) {
+        return snapshot.keys().get(kid != null ? kid : DEFAULT_KID);
+    }
+
+    /**
+     * 등록된 모든 키 (현재 스냅샷)
+     */
+    public Collection<JwtKey> keys() {
+        return snapshot.keys().values();
+    }
+
+    /**
+     * 설정 키의 공개 키로 만든 JWKS 문서 (현재 스냅샷)
+     */
+    public JwkSet jwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * 설정 키 목록을 통째로 교체합니다. 진행 중인 검증은 이전 스냅샷으로 끝까지 진행됩니다.
+     *
+     * @param keys      새 키 목록
+     * @param activeKid 서명에 사용할 kid
+     */
+    public synchronized void rotate(Collection<JwtKey> keys, String activeKid) {
+        this.configuredKeys = List.copyOf(keys);
+        this.activeKid = activeKid;
+        publish();
+        log.info("[JWT 키링] {}개 키 적용, active-kid={}", configuredKeys.size(), activeKid);
+    }
+
+    /**
+     * JWKS 에서 가져온 원격 공개 키 목록을 교체합니다.
+     */
+    public synchronized void updateRemoteKeys(Collection<JwtKey> keys) {
+        this.remoteKeys = List.copyOf(keys);
+        publish();
+        log.info("[JWT 키링] 원격 공개 키 {}개 적용", remoteKeys.size());
+    }
+
+    private void publish() {
+        Map<String, JwtKey> byKid = new HashMap<>();
+        for (JwtKey key : remoteKeys) {
+            byKid.put(key.kid(), key);
+        }
+        for (JwtKey key : configuredKeys) {
+            byKid.put(key.kid(), key);
+        }
+        this.snapshot = new Snapshot(Map.copyOf(byKid), activeKid, JwkSet.of(configuredKeys));
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolve(header);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, String plaintext) {
+        return resolve(header);
+    }
+
+    private Key resolve(JwsHeader header) {
+        JwtKey key = find(header.getKeyId());
+        if (key == null) {
+            throw new SignatureException("등록되지 않은 kid 입니다: " + header.getKeyId());
+        }
+        // 헤더의 alg 를 바꿔 다른 종류의 키로 검증하게 만드는 공격 방지
+        if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("kid " + key.kid() + " 의 알고리즘과 다릅니다: " + header.getAlgorithm());
+        }
+        return key.verificationKey();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        for (String key : event.getKeys()) {
+            if (key.startsWith(PROPERTY_PREFIX)) {
+                reload();
+                return;
+            }
+        }
+    }
+
+    private void reload() {
+        List<JwtKey> keys = new ArrayList<>();
+        String secret = environment.getProperty("jwt.secret");
+        if (secret != null && !secret.isEmpty()) {
+            Key hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            keys.add(new JwtKey(DEFAULT_KID, SignatureAlgorithm.HS256, hmacKey, hmacKey));
+        }
+        List<KeyProperties> configured = Binder.get(environment)
+                .bind("jwt.keys", Bindable.listOf(KeyProperties.class))
+                .orElse(Collections.emptyList());
+        for (KeyProperties properties : configured) {
+            keys.add(properties.toKey());
+        }
+        rotate(keys, environment.getProperty("jwt.active-kid", DEFAULT_KID));
+    }
+
+    /**
+     * jwt.keys 설정 항목
+     */
+    @Getter
+    @Setter
+    public static class KeyProperties {
+        private String kid;
+        private String algorithm = SignatureAlgorithm.HS256.getValue();
+        private String secret;
+        private String publicKey;
+        private String privateKey;
+
+        JwtKey toKey() {
+            SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+            if (signatureAlgorithm == SignatureAlgorithm.NONE) {
+                throw new IllegalStateException("서명하지 않는 알고리즘은 사용할 수 없습니다: " + kid);
+            }
+            if (signatureAlgorithm.isHmac()) {
+                Key hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                return new JwtKey(kid, signatureAlgorithm, hmacKey, hmacKey);
+            }
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(signatureAlgorithm.isRsa() ? "RSA" : "EC");
+                Key verificationKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKey)));
+                Key signingKey = privateKey != null
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKey)))
+                        : null;
+                return new JwtKey(kid, signatureAlgorithm, verificationKey, signingKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("jwt.keys 의 키를 읽을 수 없습니다: " + kid, e);
+            }
+        }
+
+        /**
+         * PEM 의 -----BEGIN/END----- 줄과 공백을 제거하고 Base64 디코딩합니다.
+         */
+        private static byte[] decodePem(String pem) {
+            String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        }
+    }
+
+    private record Snapshot(Map<String, JwtKey> keys, String activeKid, JwkSet jwks) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), DEFAULT_KID, JwkSet.of(List.of()));
+    }
+}
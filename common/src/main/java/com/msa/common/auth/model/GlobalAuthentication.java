@@ -0,0 +1,49 @@
+package com.msa.common.auth.model;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 사용자 정보와 인증 정보를 하나의 객체로 표현하는 인증 토큰
+ * UsernamePasswordAuthenticationToken 과 달리 권한 목록을 복사하지 않고 RoleAuthorities 의 공유 목록을 사용하며,
+ * principal 이 자기 자신이므로 요청당 이 객체 하나만 생성됩니다.
+ * 기존처럼 principal 을 GlobalCustomUserDetails 로 꺼내 쓸 수 있습니다.
+ */
+public class GlobalAuthentication extends GlobalCustomUserDetails implements Authentication {
+
+    public GlobalAuthentication(String role, String idStr) {
+        super(role, idStr);
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return this;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            return;
+        }
+        throw new IllegalArgumentException("인증된 사용자 정보는 인증 해제할 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return getUsername();
+    }
+}
@@ -1,20 +1,19 @@
 package com.msa.common.auth.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
 
-@Slf4j
 @Getter
 public class GlobalCustomUserDetails implements UserDetails {
     private final String role;
     private final String userIdStr;
-    private final Long userId;
+    private Long userId;
+    @Getter(AccessLevel.NONE)
+    private boolean userIdParsed;
     private final boolean enabled;
 
     /**
@@ -27,6 +26,7 @@ public class GlobalCustomUserDetails implements UserDetails {
         this.role = role;
         this.userId = id;
         this.userIdStr = id != null ? id.toString() : "";
+        this.userIdParsed = true;
         this.enabled = true;
     }
 
@@ -39,33 +39,40 @@ public class GlobalCustomUserDetails implements UserDetails {
     public GlobalCustomUserDetails(String role, String idStr) {
         this.role = role;
         this.userIdStr = idStr;
-        
-        // 문자열을 Long으로 변환 시도 (변환 실패 시 null)
-        Long parsedId = null;
-        try {
-            if (idStr != null && !idStr.isEmpty()) {
-                parsedId = Long.parseLong(idStr);
+        // Long 변환은 getUserId 를 처음 호출할 때 수행
+        this.enabled = true;
+    }
+
+    /**
+     * 사용자 ID를 Long 형태로 반환합니다.
+     * 문자열로 생성된 경우 처음 호출할 때 한 번만 변환합니다.
+     *
+     * @return 사용자 ID (변환할 수 없으면 null)
+     */
+    public Long getUserId() {
+        if (!userIdParsed) {
+            // 문자열을 Long으로 변환 시도 (변환 실패 시 null)
+            try {
+                if (userIdStr != null && !userIdStr.isEmpty()) {
+                    userId = Long.parseLong(userIdStr);
+                }
+            } catch (NumberFormatException e) {
+                // 변환 실패 시 userId는 null로 유지
             }
-        } catch (NumberFormatException e) {
-            // 변환 실패 시 parsedId는 null로 유지
+            userIdParsed = true;
         }
-        this.userId = parsedId;
-        this.enabled = true;
+        return userId;
     }
 
     /**
      * 사용자의 권한 정보를 반환합니다.
      * role이 이미 ROLE_ 접두사를 포함하고 있는 경우 그대로 사용하고,
      * 그렇지 않은 경우 ROLE_ 접두사를 추가합니다.
+     * 같은 역할이면 RoleAuthorities 가 보관한 불변 목록을 공유합니다.
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // role이 이미 ROLE_로 시작하는지 확인
-        String authority = (role != null && role.startsWith("ROLE_")) ? role : "ROLE_" + role;
-        
-        log.debug("[사용자 정보] 생성된 권한: {}", authority);
-        
-        return Collections.singletonList(new SimpleGrantedAuthority(authority));
+        return RoleAuthorities.of(role);
     }
 
     // 사용하지 않음
@@ -0,0 +1,75 @@
+package com.msa.common.auth.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 역할별 권한 목록을 한 번만 만들어 공유하는 캐시
+ * 알려진 역할(USER, ADMIN, SUPER_ADMIN)은 ROLE_ 접두사 유무와 관계없이 같은 불변 목록을 반환하고,
+ * 그 외 역할은 최대 MAX_ENTRIES 개까지 캐시하며 넘으면 요청마다 새로 만듭니다.
+ * 게이트웨이 X-Auth-Role 헤더처럼 쉼표로 구분된 여러 역할(예: USER,ADMIN)은 역할마다 권한 하나씩 담은 목록으로 만듭니다.
+ */
+public final class RoleAuthorities {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final int MAX_ENTRIES = 64;
+
+    private static final Map<String, List<GrantedAuthority>> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        for (String role : new String[]{"USER", "ADMIN", "SUPER_ADMIN"}) {
+            List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role));
+            CACHE.put(role, authorities);
+            CACHE.put(ROLE_PREFIX + role, authorities);
+        }
+    }
+
+    private RoleAuthorities() {
+        throw new IllegalStateException("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 역할에 해당하는 권한 목록을 반환합니다.
+     * 각 역할이 이미 ROLE_ 접두사를 포함하고 있으면 그대로, 아니면 ROLE_ 접두사를 붙입니다.
+     *
+     * @param role 사용자 역할 (예: USER, ROLE_ADMIN, USER,ADMIN)
+     * @return 역할별 권한을 담은 불변 목록
+     */
+    public static List<GrantedAuthority> of(String role) {
+        String key = String.valueOf(role);
+        List<GrantedAuthority> authorities = CACHE.get(key);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = key.indexOf(',') < 0 ? List.of(authority(key)) : split(key);
+        if (CACHE.size() < MAX_ENTRIES) {
+            List<GrantedAuthority> existing = CACHE.putIfAbsent(key, authorities);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> split(String roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String role : roles.split(",")) {
+            String trimmed = role.trim();
+            if (!trimmed.isEmpty()) {
+                authorities.add(authority(trimmed));
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static GrantedAuthority authority(String role) {
+        return new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role);
+    }
+}
@@ -0,0 +1,61 @@
+package com.msa.common.auth.model;
+
+/**
+ * 압축 토큰 프로필의 역할 코드 (rl 클레임)
+ * 권한마다 한 비트를 사용하며 (ROLE_USER=1, ROLE_ADMIN=2, ROLE_SUPER_ADMIN=4),
+ * 여러 권한은 비트를 합칩니다. 게이트웨이의 VerifiedToken 도 같은 값을 사용합니다.
+ */
+public final class RoleCodes {
+
+    private static final String[] AUTHORITIES = {"ROLE_USER", "ROLE_ADMIN", "ROLE_SUPER_ADMIN"};
+
+    // 코드별 authorities 문자열 (쉼표 구분, 0 이면 null)
+    private static final String[] DECODED = new String[1 << AUTHORITIES.length];
+
+    static {
+        for (int code = 1; code < DECODED.length; code++) {
+            StringBuilder joined = new StringBuilder();
+            for (int bit = 0; bit < AUTHORITIES.length; bit++) {
+                if ((code & (1 << bit)) != 0) {
+                    if (!joined.isEmpty()) {
+                        joined.append(',');
+                    }
+                    joined.append(AUTHORITIES[bit]);
+                }
+            }
+            DECODED[code] = joined.toString();
+        }
+    }
+
+    private RoleCodes() {
+        throw new IllegalStateException("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 쉼표로 구분된 권한을 역할 코드로 변환합니다. 알 수 없는 권한은 무시합니다.
+     */
+    public static int encode(String authorities) {
+        int code = 0;
+        if (authorities == null) {
+            return code;
+        }
+        for (String authority : authorities.split(",")) {
+            String trimmed = authority.trim();
+            for (int bit = 0; bit < AUTHORITIES.length; bit++) {
+                if (AUTHORITIES[bit].equals(trimmed)) {
+                    code |= 1 << bit;
+                }
+            }
+        }
+        return code;
+    }
+
+    /**
+     * 역할 코드를 쉼표로 구분된 권한 문자열로 변환합니다. (미리 만든 문자열을 반환)
+     *
+     * @return 권한 문자열 (코드가 0 이거나 범위를 벗어나면 null)
+     */
+    public static String decode(long code) {
+        return code > 0 && code < DECODED.length ? DECODED[(int) code] : null;
+    }
+}
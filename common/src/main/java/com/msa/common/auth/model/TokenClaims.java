@@ -0,0 +1,39 @@
+package com.msa.common.auth.model;
+
+/**
+ * JWT 페이로드에서 서비스가 사용하는 클레임만 추출한 불변 객체
+ *
+ * @param userId      userId 클레임 (없으면 user_id, uid 순, 모두 없으면 null)
+ * @param subject     sub 클레임 (없으면 null)
+ * @param authorities authorities 클레임 (없으면 roles, role, rl 역할 코드 순, 모두 없으면 null)
+ * @param expiresAt   exp 클레임 (epoch 초, 없으면 -1)
+ */
+public record TokenClaims(String userId, String subject, String authorities, long expiresAt) {
+
+    /**
+     * 형식이 잘못되었거나 디코딩할 수 없는 토큰
+     */
+    public static final TokenClaims EMPTY = new TokenClaims(null, null, null, -1);
+
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    public boolean hasExpiration() {
+        return expiresAt >= 0;
+    }
+
+    /**
+     * exp 클레임이 있고 현재 시각이 지났는지 확인합니다.
+     */
+    public boolean isExpired(long nowMillis) {
+        return hasExpiration() && expiresAt * 1000 < nowMillis;
+    }
+
+    /**
+     * userId 가 없으면 sub 를 사용자 식별자로 사용합니다.
+     */
+    public String userIdOrSubject() {
+        return userId != null ? userId : subject;
+    }
+}
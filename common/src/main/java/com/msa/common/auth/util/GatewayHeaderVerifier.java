@@ -0,0 +1,128 @@
+package com.msa.common.auth.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 신뢰 게이트웨이 모드에서 게이트웨이가 전달한 사용자 정보 헤더를 검증합니다.
+ * 게이트웨이(IdentityHeaderSigner)는 "userId\nusername\nrole\nexpires\ntokenId" 에 대한 HMAC-SHA256 서명을
+ * X-Auth-Signature 헤더(패딩 없는 Base64URL)로 함께 보내며, 같은 키로 다시 계산해 비교합니다.
+ * expires(X-Auth-Expires)는 토큰 exp(epoch 초)로, 이 시각이 지난 헤더는 서명이 맞아도 거부하여
+ * 가로챈 헤더를 토큰 만료 후에 재사용할 수 없습니다.
+ * security.trusted-gateway.enabled=true 일 때만 사용되며, 이때 secret 이 비어 있으면 기동에 실패합니다.
+ * Mac 은 스레드별로 두지 않고 작은 풀에서 빌려 쓰므로, 요청마다 새 스레드인 가상 스레드에서도 매번 만들지 않습니다.
+ */
+@Component
+public class GatewayHeaderVerifier {
+
+    public static final String USER_ID_HEADER = "X-Auth-UserId";
+    public static final String USERNAME_HEADER = "X-Auth-Username";
+    public static final String ROLE_HEADER = "X-Auth-Role";
+    public static final String EXPIRES_HEADER = "X-Auth-Expires";
+    public static final String TOKEN_ID_HEADER = "X-Auth-TokenId";
+    public static final String SIGNATURE_HEADER = "X-Auth-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final boolean enabled;
+    private final SecretKeySpec key;
+    private final BlockingQueue<Mac> macs;
+
+    public GatewayHeaderVerifier(@Value("${security.trusted-gateway.enabled:false}") boolean enabled,
+                                 @Value("${security.trusted-gateway.secret:}") String secret) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.key = null;
+            this.macs = null;
+            return;
+        }
+        if (secret.isEmpty()) {
+            throw new IllegalStateException("security.trusted-gateway.enabled=true 이면 security.trusted-gateway.secret 이 필요합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+    }
+
+    /**
+     * 신뢰 게이트웨이 모드 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청의 사용자 정보 헤더가 게이트웨이 서명과 일치하는지 확인합니다.
+     *
+     * @param request 현재 요청
+     * @return 서명이 일치하고 만료되지 않았으면 true (모드가 꺼져 있거나 userId/만료/서명 헤더가 없으면 false)
+     */
+    public boolean verify(HttpServletRequest request) {
+        return verify(request, System.currentTimeMillis());
+    }
+
+    boolean verify(HttpServletRequest request, long nowMillis) {
+        if (!enabled) {
+            return false;
+        }
+        String userId = request.getHeader(USER_ID_HEADER);
+        String expires = request.getHeader(EXPIRES_HEADER);
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        if (userId == null || userId.isEmpty() || expires == null || signature == null) {
+            return false;
+        }
+
+        try {
+            if (Long.parseLong(expires) <= nowMillis / 1000) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        byte[] expected;
+        try {
+            expected = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        String payload = userId + '\n' + nullToEmpty(request.getHeader(USERNAME_HEADER))
+                + '\n' + nullToEmpty(request.getHeader(ROLE_HEADER))
+                + '\n' + expires
+                + '\n' + nullToEmpty(request.getHeader(TOKEN_ID_HEADER));
+        Mac mac = acquireMac();
+        byte[] actual = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        // doFinal 이 상태를 초기화하므로 그대로 반납 (풀이 가득 차면 버림)
+        macs.offer(mac);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private Mac acquireMac() {
+        Mac pooled = macs.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
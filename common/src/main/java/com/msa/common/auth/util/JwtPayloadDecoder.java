@@ -0,0 +1,186 @@
+package com.msa.common.auth.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.msa.common.auth.model.RoleCodes;
+import com.msa.common.auth.model.TokenClaims;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 서명 검증 없이 JWT 페이로드에서 필요한 클레임만 읽는 디코더
+ * 점(.) 위치를 인덱스로 찾고, 페이로드를 디코딩 길이만큼 할당한 버퍼에 직접 Base64URL 디코딩한 뒤
+ * 공유 JsonFactory 의 스트리밍 파서로 userId, sub, authorities, exp 필드만 읽습니다.
+ * 문자열 분할, 중간 String, Map 을 만들지 않습니다.
+ * 압축 토큰 프로필(uid: 숫자 userId, rl: RoleCodes 역할 코드)도 함께 읽습니다.
+ * 버퍼는 스레드에 보관하지 않습니다. 요청마다 새 스레드인 가상 스레드에서는 ThreadLocal 버퍼가 재사용되지 않고
+ * 스레드 맵 항목만 늘어나므로, 수백 바이트짜리 단명 배열 하나를 할당하는 편이 가볍습니다.
+ */
+final class JwtPayloadDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int[] BASE64_URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private JwtPayloadDecoder() {
+    }
+
+    /**
+     * 헤더.페이로드.서명 형식인지 확인합니다. (점이 정확히 두 개)
+     */
+    static boolean hasThreeParts(String token) {
+        int first = token.indexOf('.');
+        if (first < 0) {
+            return false;
+        }
+        int second = token.indexOf('.', first + 1);
+        return second >= 0 && token.indexOf('.', second + 1) < 0;
+    }
+
+    /**
+     * 페이로드를 디코딩합니다. 형식이 잘못되었으면 TokenClaims.EMPTY 를 반환합니다.
+     */
+    static TokenClaims decode(String token) {
+        if (token == null) {
+            return TokenClaims.EMPTY;
+        }
+        int first = token.indexOf('.');
+        if (first < 0) {
+            return TokenClaims.EMPTY;
+        }
+        int second = token.indexOf('.', first + 1);
+        int end = second < 0 ? token.length() : second;
+
+        byte[] buffer = new byte[(end - first - 1) * 3 / 4 + 3];
+
+        int length = decodeBase64Url(token, first + 1, end, buffer);
+        if (length <= 0) {
+            return TokenClaims.EMPTY;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(buffer, 0, length)) {
+            return readClaims(parser);
+        } catch (IOException | RuntimeException e) {
+            return TokenClaims.EMPTY;
+        }
+    }
+
+    private static TokenClaims readClaims(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return TokenClaims.EMPTY;
+        }
+
+        String userId = null;
+        String legacyUserId = null;
+        String subject = null;
+        String authorities = null;
+        String roles = null;
+        String role = null;
+        String compactUserId = null;
+        String compactRoles = null;
+        long expiresAt = -1;
+        int fieldCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            fieldCount++;
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "userId" -> userId = text(parser, value);
+                case "user_id" -> legacyUserId = text(parser, value);
+                case "sub" -> subject = text(parser, value);
+                case "authorities" -> authorities = text(parser, value);
+                case "roles" -> roles = text(parser, value);
+                case "role" -> role = text(parser, value);
+                case "uid" -> compactUserId = text(parser, value);
+                case "rl" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        compactRoles = RoleCodes.decode(parser.getLongValue());
+                    }
+                }
+                case "exp" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+                        expiresAt = parser.getValueAsLong();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (fieldCount == 0) {
+            return TokenClaims.EMPTY;
+        }
+        return new TokenClaims(
+                userId != null ? userId : legacyUserId != null ? legacyUserId : compactUserId,
+                subject,
+                authorities != null ? authorities : roles != null ? roles : role != null ? role : compactRoles,
+                expiresAt);
+    }
+
+    /**
+     * 문자열/숫자/불리언은 문자열로, 배열은 원소를 쉼표로 이어서 반환합니다. 객체나 null 은 null
+     */
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        if (value == null || value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isScalarValue()) {
+            return parser.getText();
+        }
+        if (value == JsonToken.START_ARRAY) {
+            StringBuilder joined = new StringBuilder();
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (element.isScalarValue()) {
+                    if (!joined.isEmpty()) {
+                        joined.append(',');
+                    }
+                    joined.append(parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return joined.toString();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * token[start, end) 구간을 Base64URL(패딩 선택)로 디코딩하여 out 에 씁니다.
+     *
+     * @return 디코딩된 바이트 수, 잘못된 문자가 있으면 -1
+     */
+    private static int decodeBase64Url(String token, int start, int end, byte[] out) {
+        while (end > start && token.charAt(end - 1) == '=') {
+            end--;
+        }
+        int length = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = ((bits << 6) | value) & 0xFFF;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return length;
+    }
+}
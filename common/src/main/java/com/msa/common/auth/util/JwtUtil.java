@@ -1,59 +1,172 @@
 package com.msa.common.auth.util;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.msa.common.auth.key.JwtKeyRing;
+import com.msa.common.auth.model.TokenClaims;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.util.Date;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class JwtUtil {
 
-    // 기본값으로 사용할 시크릿 키 (실제 환경에서는 설정 파일에서 로드)
-    @Value("${jwt.secret:your-secret-key-should-be-very-long-and-secure-for-production}")
-    private String secretKey;
-    
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 전체 클레임 맵이 필요한 경우에만 사용 (스레드 안전, 한 번만 생성)
+    private static final ObjectReader CLAIMS_READER = new ObjectMapper()
+            .readerFor(new TypeReference<Map<String, Object>>() { });
+
+    /**
+     * 요청 단위로 디코딩된 클레임을 보관하는 요청 속성 이름
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
+    // 실제로 페이로드를 디코딩한 횟수와 요청 속성에서 재사용한 횟수
+    private final LongAdder decodedCount = new LongAdder();
+    private final LongAdder reusedCount = new LongAdder();
+
+    // 서명 검증 키는 공통 키링에서 kid 로 조회 (공유 비밀 없이 공개 키만으로도 검증 가능)
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    /**
+     * 디코딩 횟수를 jwt.claims.decode 카운터로 노출합니다.
+     * source=decoded 가 토큰이 있는 요청 수를 넘지 않으면 요청당 한 번만 디코딩된 것입니다.
+     */
+    @Autowired(required = false)
+    void registerMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("jwt.claims.decode", decodedCount, LongAdder::sum)
+                .tag("source", "decoded")
+                .description("JWT 페이로드를 디코딩한 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.claims.decode", reusedCount, LongAdder::sum)
+                .tag("source", "memoized")
+                .description("같은 요청에서 이미 디코딩된 클레임을 재사용한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JWT 토큰에서 서비스가 사용하는 클레임(userId, sub, authorities, exp)만 추출합니다.
+     * 서명 검증 없이 페이로드만 한 번 스캔하며, 중간 문자열이나 맵을 만들지 않습니다.
+     * 요청 처리 중이면 현재 요청에 디코딩 결과를 보관하여 같은 토큰은 다시 디코딩하지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @return 클레임 (형식이 잘못되었으면 TokenClaims.EMPTY)
+     */
+    public TokenClaims decode(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return decodeOnce(token);
+        }
+        Object memoized = attributes.getAttribute(CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memoized instanceof MemoizedClaims cached && cached.matches(token)) {
+            reusedCount.increment();
+            return cached.claims();
+        }
+        TokenClaims claims = decodeOnce(token);
+        attributes.setAttribute(CLAIMS_ATTRIBUTE, new MemoizedClaims(token, claims), RequestAttributes.SCOPE_REQUEST);
+        return claims;
+    }
+
+    /**
+     * 주어진 요청에 대해 클레임을 디코딩합니다.
+     * RequestContextHolder 가 채워지기 전에 실행되는 필터에서 사용합니다.
+     *
+     * @param request 현재 요청
+     * @param token JWT 토큰
+     * @return 클레임 (형식이 잘못되었으면 TokenClaims.EMPTY)
+     */
+    public TokenClaims decode(HttpServletRequest request, String token) {
+        if (request.getAttribute(CLAIMS_ATTRIBUTE) instanceof MemoizedClaims cached && cached.matches(token)) {
+            reusedCount.increment();
+            return cached.claims();
+        }
+        TokenClaims claims = decodeOnce(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, new MemoizedClaims(token, claims));
+        return claims;
+    }
+
+    /**
+     * 현재 요청에서 이미 디코딩된 클레임을 반환합니다.
+     *
+     * @return 클레임 (요청 밖이거나 디코딩된 토큰이 없으면 TokenClaims.EMPTY)
+     */
+    public TokenClaims currentClaims() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof MemoizedClaims cached) {
+            return cached.claims();
+        }
+        return TokenClaims.EMPTY;
+    }
+
+    private TokenClaims decodeOnce(String token) {
+        decodedCount.increment();
+        return JwtPayloadDecoder.decode(token);
     }
     
+    /**
+     * 토큰의 서명과 만료 시간을 키링으로 검증한 뒤 서비스가 사용하는 클레임만 디코딩합니다.
+     * 검증에 성공한 토큰의 클레임만 요청 속성에 보관하므로 이후 decode 호출은 검증된 값을 재사용합니다.
+     * 검증에 실패하면 JwtException(만료 시 ExpiredJwtException)이 발생합니다.
+     *
+     * @param request 현재 요청
+     * @param token JWT 토큰
+     * @return 클레임 (리프레시 토큰이나 서비스 토큰이면 TokenClaims.EMPTY)
+     */
+    public TokenClaims verify(HttpServletRequest request, String token) {
+        Claims verified = jwtKeyRing.verify(token);
+        if (verified.get("tokenType") != null || verified.get("type") != null) {
+            return TokenClaims.EMPTY;
+        }
+        return decode(request, token);
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 키링으로 검증하고 클레임을 반환합니다.
+     * 검증에 실패하면 JwtException(만료 시 ExpiredJwtException)이 발생합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     */
+    public Claims verify(String token) {
+        return jwtKeyRing.verify(token);
+    }
+
     /**
      * JWT 토큰에서 클레임을 추출합니다.
      * 서명 검증 없이 페이로드만 추출합니다.
+     * 필요한 클레임만 읽는 경우에는 decode 를 사용합니다.
      * 
      * @param token JWT 토큰
      * @return 클레임 맵
      */
     public Map<String, Object> parseClaims(String token) {
         try {
-            // 토큰을 점(".")으로 분리
-            String[] chunks = token.split("\\.");
-            
-            // 헤더와 페이로드만 필요하고 서명은 무시
-            if (chunks.length < 2) {
-                return java.util.Collections.emptyMap(); // 유효하지 않은 형식이면 빈 맵 반환
-            }
-            
-            try {
-                // Base64 디코딩을 통해 페이로드 추출
-                String payload = new String(java.util.Base64.getUrlDecoder().decode(chunks[1]));
-                
-                // JSON 문자열을 Map으로 변환
-                com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                return mapper.readValue(payload, Map.class);
-            } catch (Exception e) {
-                // 디코딩 오류는 조용히 무시하고 빈 맵 반환
-                return java.util.Collections.emptyMap();
+            // 첫 번째와 두 번째 점(".") 사이가 페이로드 (서명은 무시)
+            int first = token.indexOf('.');
+            if (first < 0) {
+                return Collections.emptyMap(); // 유효하지 않은 형식이면 빈 맵 반환
             }
+            int second = token.indexOf('.', first + 1);
+            String payload = token.substring(first + 1, second < 0 ? token.length() : second);
+
+            // Base64 디코딩 후 JSON 을 Map 으로 변환
+            return CLAIMS_READER.readValue(Base64.getUrlDecoder().decode(payload));
         } catch (Exception e) {
             // 예외가 발생해도 시스템이 중단되지 않도록 빈 맵 반환
-            return java.util.Collections.emptyMap();
+            return Collections.emptyMap();
         }
     }
     
@@ -62,28 +175,10 @@ public class JwtUtil {
      * 서명 검증 없이 페이로드만 추출하여 확인합니다.
      * 
      * @param token JWT 토큰
-     * @return 만료 여부
+     * @return 만료 여부 (exp 가 없거나 디코딩할 수 없으면 만료되지 않은 것으로 간주)
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Map<String, Object> claims = parseClaims(token);
-            
-            // 클레임이 비어있거나 exp 필드가 없으면 만료되지 않은 것으로 간주
-            if (claims.isEmpty() || !claims.containsKey("exp")) {
-                return false;
-            }
-            
-            // exp는 초 단위의 타임스탬프
-            Object expValue = claims.get("exp");
-            if (expValue instanceof Number) {
-                long expTime = ((Number) expValue).longValue() * 1000; // 밀리초로 변환
-                return new Date(expTime).before(new Date());
-            }
-            return false;
-        } catch (Exception e) {
-            // 예외 발생 시 만료되지 않은 것으로 처리
-            return false;
-        }
+        return decode(token).isExpired(System.currentTimeMillis());
     }
     
     /**
@@ -97,29 +192,29 @@ public class JwtUtil {
         if (token == null || token.isEmpty()) {
             return false;
         }
-        
-        try {
-            // JWT 형식이 맞는지 확인 (헤더.페이로드.서명 형식)
-            String[] chunks = token.split("\\.");
-            if (chunks.length != 3) {
-                return false;
-            }
-            
-            // 페이로드 추출
-            Map<String, Object> claims = parseClaims(token);
-            if (claims.isEmpty()) {
-                return false;
-            }
-            
-            // 만료 시간 확인은 선택적으로 수행
-            // 만료 시간이 없는 토큰도 유효하게 처리
-            if (claims.containsKey("exp")) {
-                return !isTokenExpired(token);
-            }
-            
-            return true;
-        } catch (Exception e) {
+
+        // JWT 형식이 맞는지 확인 (헤더.페이로드.서명 형식)
+        if (!JwtPayloadDecoder.hasThreeParts(token)) {
+            return false;
+        }
+
+        // 페이로드는 한 번만 디코딩
+        TokenClaims claims = decode(token);
+        if (claims.isEmpty()) {
             return false;
         }
+
+        // 만료 시간이 없는 토큰도 유효하게 처리
+        return !claims.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 요청 속성에 보관하는 토큰과 디코딩 결과
+     */
+    private record MemoizedClaims(String token, TokenClaims claims) {
+
+        boolean matches(String other) {
+            return Objects.equals(token, other);
+        }
     }
 }
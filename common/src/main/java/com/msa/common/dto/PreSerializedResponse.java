@@ -0,0 +1,93 @@
+package com.msa.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 내용이 고정된 응답(ping, 단순 성공 메시지 등)의 미리 직렬화된 본문
+ * timestamp 를 제외한 ResponseDto JSON 을 생성 시 한 번만 직렬화해 두고,
+ * 초가 바뀔 때만 timestamp 를 붙인 전체 본문을 다시 만들어 같은 초의 요청은 같은 바이트 배열로 응답합니다.
+ * 본문 형식은 ResponseDto 를 직렬화한 결과와 같습니다.
+ */
+public final class PreSerializedResponse {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] prefix;
+    private volatile Body body = new Body(Long.MIN_VALUE, null);
+
+    private PreSerializedResponse(ResponseDto<?> response) {
+        try {
+            // 마지막 '}' 를 떼고 그 자리에 timestamp 필드를 이어 붙임
+            byte[] json = MAPPER.writeValueAsBytes(response);
+            this.prefix = Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * ResponseDto.success(data) 와 같은 본문
+     */
+    public static PreSerializedResponse success(String data) {
+        ResponseDto<String> response = ResponseDto.success(data);
+        response.setTimestamp(null);
+        return new PreSerializedResponse(response);
+    }
+
+    /**
+     * ResponseDto.success(message, data) 와 같은 본문
+     */
+    public static PreSerializedResponse success(String message, String data) {
+        ResponseDto<String> response = ResponseDto.success(message, data);
+        response.setTimestamp(null);
+        return new PreSerializedResponse(response);
+    }
+
+    /**
+     * 현재 초의 timestamp 가 포함된 본문 (호출자가 수정하면 안 됨)
+     */
+    public byte[] bytes() {
+        long second = System.currentTimeMillis() / 1000;
+        Body current = body;
+        if (current.second == second) {
+            return current.bytes;
+        }
+        byte[] timestamp = ResponseTimestamp.FORMATTER
+                .format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()))
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[prefix.length + TIMESTAMP_FIELD.length + timestamp.length + END.length];
+        int offset = 0;
+        System.arraycopy(prefix, 0, bytes, offset, prefix.length);
+        offset += prefix.length;
+        System.arraycopy(TIMESTAMP_FIELD, 0, bytes, offset, TIMESTAMP_FIELD.length);
+        offset += TIMESTAMP_FIELD.length;
+        System.arraycopy(timestamp, 0, bytes, offset, timestamp.length);
+        offset += timestamp.length;
+        System.arraycopy(END, 0, bytes, offset, END.length);
+        body = new Body(second, bytes);
+        return bytes;
+    }
+
+    /**
+     * 200 OK + application/json 응답
+     */
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bytes());
+    }
+
+    private record Body(long second, byte[] bytes) {
+    }
+}
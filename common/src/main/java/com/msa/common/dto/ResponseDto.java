@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,8 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+// 직렬화는 ResponseDtoSerializer 가 담당 (필드 이름/메시지 인코딩 재사용, 초 단위 timestamp 캐시)
+@JsonSerialize(using = ResponseDtoSerializer.class)
 public class ResponseDto<T> {
     
     private boolean success;
@@ -0,0 +1,70 @@
+package com.msa.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResponseDto 전용 직렬화기
+ * 필드 이름과 자주 쓰는 메시지(컨트롤러의 성공 메시지 상수 등)는 인코딩된 SerializedString 을 재사용하고,
+ * timestamp 는 초 단위로 캐시된 문자열을 씁니다. (@JsonFormat 패턴 해석과 매번 포맷하는 비용 제거)
+ * 필드 순서와 null 필드 생략은 기존 Bean 직렬화 결과와 같습니다.
+ */
+public class ResponseDtoSerializer extends StdSerializer<ResponseDto<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    // 메시지별 인코딩 결과 (동적 메시지로 무한히 늘어나지 않도록 개수 제한)
+    private static final int MAX_CACHED_MESSAGES = 256;
+    private static final Map<String, SerializedString> MESSAGES = new ConcurrentHashMap<>();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ResponseDtoSerializer() {
+        super((Class) ResponseDto.class);
+    }
+
+    @Override
+    public void serialize(ResponseDto<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        if (value.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(message(value.getMessage()));
+        }
+        if (value.getData() != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+        }
+        if (value.getError() != null) {
+            gen.writeFieldName(ERROR);
+            provider.defaultSerializeValue(value.getError(), gen);
+        }
+        if (value.getTimestamp() != null) {
+            gen.writeFieldName(TIMESTAMP);
+            gen.writeString(ResponseTimestamp.of(value.getTimestamp()));
+        }
+        gen.writeEndObject();
+    }
+
+    private static SerializedString message(String message) {
+        SerializedString cached = MESSAGES.get(message);
+        if (cached != null) {
+            return cached;
+        }
+        SerializedString encoded = new SerializedString(message);
+        if (MESSAGES.size() < MAX_CACHED_MESSAGES) {
+            MESSAGES.putIfAbsent(message, encoded);
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,41 @@
+package com.msa.common.dto;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ResponseDto 의 timestamp 문자열 캐시 ("yyyy-MM-dd HH:mm:ss")
+ * 응답 시각은 초 단위로만 표시되므로 같은 초의 응답은 마지막으로 만든 문자열을 그대로 사용하고,
+ * 초가 바뀔 때만 다시 포맷합니다.
+ */
+final class ResponseTimestamp {
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private static volatile Cached cached = new Cached(Long.MIN_VALUE, null);
+
+    private ResponseTimestamp() {
+    }
+
+    /**
+     * 초 단위로 캐시된 timestamp 문자열 (UTF-8 인코딩 결과도 함께 재사용됨)
+     */
+    static SerializedString of(LocalDateTime timestamp) {
+        // toLocalDate/toLocalTime 은 내부 필드를 그대로 반환하므로 할당 없음
+        long second = timestamp.toLocalDate().toEpochDay() * SECONDS_PER_DAY + timestamp.toLocalTime().toSecondOfDay();
+        Cached current = cached;
+        if (current.second == second) {
+            return current.text;
+        }
+        Cached updated = new Cached(second, new SerializedString(FORMATTER.format(timestamp)));
+        cached = updated;
+        return updated.text;
+    }
+
+    private record Cached(long second, SerializedString text) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.msa.common.auth.filter;
+
+import com.msa.common.auth.key.JwtKey;
+import com.msa.common.auth.key.JwtKeyRing;
+import com.msa.common.auth.model.GlobalAuthentication;
+import com.msa.common.auth.util.GatewayHeaderVerifier;
+import com.msa.common.auth.util.JwtUtil;
+import com.sun.management.ThreadMXBean;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalSecurityContextFilterTests {
+
+	private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+	private static final String OTHER_SECRET = "0000000000000000000000000000000000000000000000000000000000000000";
+	private static final String HEADER_SECRET = "gateway-identity-header-test-secret";
+
+	private JwtKeyRing jwtKeyRing;
+	private GlobalSecurityContextFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("jwt.secret", SECRET)));
+		jwtKeyRing = new JwtKeyRing(environment);
+		jwtKeyRing.init();
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "jwtKeyRing", jwtKeyRing);
+
+		filter = new GlobalSecurityContextFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(filter, "gatewayHeaderVerifier", new GatewayHeaderVerifier(false, ""));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void authenticatesSignedAccessToken() throws Exception {
+		Authentication authentication = filter(bearer(token(SECRET, Map.of("userId", "7", "authorities", "ROLE_ADMIN"))));
+
+		assertThat(authentication).isInstanceOf(GlobalAuthentication.class);
+		assertThat(((GlobalAuthentication) authentication).getUserIdStr()).isEqualTo("7");
+		assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+	}
+
+	@Test
+	void ignoresTokenSignedWithOtherKey() throws Exception {
+		assertThat(filter(bearer(token(OTHER_SECRET, Map.of("userId", "7", "authorities", "ROLE_ADMIN"))))).isNull();
+	}
+
+	@Test
+	void authenticatesTokenSignedWithRefreshedRemoteKey() throws Exception {
+		KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+		String token = Jwts.builder()
+				.setHeaderParam(JwsHeader.KEY_ID, "rsa-1")
+				.claim("userId", "7")
+				.claim("authorities", "ROLE_USER")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+				.compact();
+		assertThat(filter(bearer(token))).isNull();
+
+		// JwksRefresher 가 가져온 공개 키를 적용하면 같은 토큰을 인증
+		jwtKeyRing.updateRemoteKeys(List.of(new JwtKey("rsa-1", SignatureAlgorithm.RS256, keyPair.getPublic(), null)));
+
+		assertThat(((GlobalAuthentication) filter(bearer(token))).getUserIdStr()).isEqualTo("7");
+	}
+
+	@Test
+	void ignoresUnsignedToken() throws Exception {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String unsigned = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString("{\"userId\":\"7\",\"authorities\":\"ROLE_ADMIN\"}".getBytes(StandardCharsets.UTF_8))
+				+ ".";
+
+		assertThat(filter(bearer(unsigned))).isNull();
+	}
+
+	@Test
+	void ignoresRefreshToken() throws Exception {
+		assertThat(filter(bearer(token(SECRET, Map.of("tokenType", "refresh", "sub", "user"))))).isNull();
+	}
+
+	@Test
+	void grantsServiceRoleOnlyForServiceToken() throws Exception {
+		MockHttpServletRequest service = new MockHttpServletRequest("GET", "/api/members/internal/username/user");
+		service.addHeader(GlobalSecurityContextFilter.SERVICE_TOKEN_HEADER, token(SECRET, Map.of("type", "service")));
+		assertThat(filter(service).getAuthorities()).extracting("authority").containsExactly("ROLE_SERVICE");
+
+		// 서비스 토큰을 Authorization 헤더로 보내거나 사용자 토큰에 SERVICE 역할을 넣어도 부여하지 않음
+		assertThat(filter(bearer(token(SECRET, Map.of("type", "service"))))).isNull();
+		assertThat(filter(bearer(token(SECRET, Map.of("userId", "7", "authorities", "ROLE_SERVICE"))))).isNull();
+
+		MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/members/internal/username/user");
+		forged.addHeader(GlobalSecurityContextFilter.SERVICE_TOKEN_HEADER, token(OTHER_SECRET, Map.of("type", "service")));
+		assertThat(filter(forged)).isNull();
+	}
+
+	@Test
+	void grantsEachRoleFromSignedMultiRoleHeader() throws Exception {
+		ReflectionTestUtils.setField(filter, "gatewayHeaderVerifier", new GatewayHeaderVerifier(true, HEADER_SECRET));
+
+		Authentication authentication = filter(signedHeaders("7", "USER,ADMIN"));
+
+		assertThat(((GlobalAuthentication) authentication).getUserIdStr()).isEqualTo("7");
+		assertThat(authentication.getAuthorities()).extracting("authority")
+				.containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+		// 여러 역할 중 SERVICE 가 섞여 있어도 부여하지 않음
+		assertThat(filter(signedHeaders("7", "USER,SERVICE"))).isNull();
+	}
+
+	/**
+	 * 인증 객체 생성 비용만 비교하기 위해, 같은 서명 검증을 거친 뒤 SERVICE 역할이라 인증하지 않는 요청과의 할당량 차이를 잽니다.
+	 * 기존 방식(GlobalCustomUserDetails + 권한 목록 두 번 생성 + UsernamePasswordAuthenticationToken)은 요청당 약 200바이트를 더 할당했고,
+	 * GlobalAuthentication 은 객체 하나(약 32바이트)만 할당하므로 64바이트를 한도로 둡니다.
+	 */
+	@Test
+	void authenticationAddsAtMostOneSmallObjectPerRequest() throws Exception {
+		ReflectionTestUtils.setField(filter, "gatewayHeaderVerifier", new GatewayHeaderVerifier(true, HEADER_SECRET));
+		MockHttpServletRequest authenticated = signedHeaders("1024", "USER");
+		MockHttpServletRequest rejected = signedHeaders("1024", "SERVICE");
+		FilterChain chain = (req, res) -> {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null) {
+				authentication.getAuthorities();
+			}
+		};
+
+		long authenticatedBytes = 0;
+		long rejectedBytes = 0;
+		for (int round = 0; round < 5; round++) {
+			authenticatedBytes = allocatedBytesPerRequest(authenticated, chain);
+			rejectedBytes = allocatedBytesPerRequest(rejected, chain);
+		}
+
+		assertThat(filter(authenticated)).isInstanceOf(GlobalAuthentication.class);
+		assertThat(authenticatedBytes - rejectedBytes).isLessThanOrEqualTo(64);
+	}
+
+	private long allocatedBytesPerRequest(MockHttpServletRequest request, FilterChain chain) throws Exception {
+		int requests = 2_000;
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < requests; i++) {
+			filter.doFilter(request, response, chain);
+			SecurityContextHolder.clearContext();
+		}
+		return (threads.getThreadAllocatedBytes(threadId) - before) / requests;
+	}
+
+	private Authentication filter(MockHttpServletRequest request) throws Exception {
+		AtomicReference<Authentication> authentication = new AtomicReference<>();
+		filter.doFilter(request, new MockHttpServletResponse(),
+				(req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+		SecurityContextHolder.clearContext();
+		return authentication.get();
+	}
+
+	private static MockHttpServletRequest bearer(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+
+	/**
+	 * 게이트웨이 IdentityHeaderSigner 와 같은 방식으로 서명한 사용자 정보 헤더 요청
+	 */
+	private static MockHttpServletRequest signedHeaders(String userId, String role) throws Exception {
+		String expires = Long.toString(System.currentTimeMillis() / 1000 + 60);
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(HEADER_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String payload = userId + "\nuser\n" + role + '\n' + expires + "\njti-1";
+		String signature = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+		request.addHeader(GatewayHeaderVerifier.USER_ID_HEADER, userId);
+		request.addHeader(GatewayHeaderVerifier.USERNAME_HEADER, "user");
+		request.addHeader(GatewayHeaderVerifier.ROLE_HEADER, role);
+		request.addHeader(GatewayHeaderVerifier.EXPIRES_HEADER, expires);
+		request.addHeader(GatewayHeaderVerifier.TOKEN_ID_HEADER, "jti-1");
+		request.addHeader(GatewayHeaderVerifier.SIGNATURE_HEADER, signature);
+		return request;
+	}
+
+	private static String token(String secret, Map<String, Object> claims) {
+		return Jwts.builder()
+				.setClaims(claims)
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
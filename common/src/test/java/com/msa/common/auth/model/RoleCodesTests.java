@@ -0,0 +1,43 @@
+package com.msa.common.auth.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleCodesTests {
+
+	@Test
+	void encodesOneBitPerAuthority() {
+		assertThat(RoleCodes.encode("ROLE_USER")).isEqualTo(1);
+		assertThat(RoleCodes.encode("ROLE_ADMIN")).isEqualTo(2);
+		assertThat(RoleCodes.encode("ROLE_SUPER_ADMIN")).isEqualTo(4);
+		assertThat(RoleCodes.encode("ROLE_USER, ROLE_SUPER_ADMIN")).isEqualTo(5);
+	}
+
+	@Test
+	void roundTripsEveryCode() {
+		for (int code = 1; code < 8; code++) {
+			String authorities = RoleCodes.decode(code);
+
+			assertThat(RoleCodes.encode(authorities)).as("code %d", code).isEqualTo(code);
+		}
+		assertThat(RoleCodes.decode(7)).isEqualTo("ROLE_USER,ROLE_ADMIN,ROLE_SUPER_ADMIN");
+	}
+
+	@Test
+	void roundTripsAuthoritiesInCanonicalOrder() {
+		// 순서와 공백이 달라도 코드로 바꾸면 같은 권한 문자열로 돌아옴
+		assertThat(RoleCodes.decode(RoleCodes.encode(" ROLE_SUPER_ADMIN,ROLE_USER "))).isEqualTo("ROLE_USER,ROLE_SUPER_ADMIN");
+	}
+
+	@Test
+	void ignoresUnknownAuthoritiesAndOutOfRangeCodes() {
+		assertThat(RoleCodes.encode("ROLE_GUEST")).isZero();
+		assertThat(RoleCodes.encode("ROLE_USER,ROLE_GUEST")).isEqualTo(1);
+		assertThat(RoleCodes.encode(null)).isZero();
+
+		assertThat(RoleCodes.decode(0)).isNull();
+		assertThat(RoleCodes.decode(8)).isNull();
+		assertThat(RoleCodes.decode(-1)).isNull();
+	}
+}
@@ -0,0 +1,94 @@
+package com.msa.common.auth.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GatewayHeaderVerifierTests {
+
+	private static final String SECRET = "gateway-identity-header-test-secret";
+	private static final long NOW_MILLIS = 1_760_000_000_000L;
+
+	private final GatewayHeaderVerifier verifier = new GatewayHeaderVerifier(true, SECRET);
+
+	@Test
+	void acceptsSignedHeadersBeforeExpiry() throws Exception {
+		MockHttpServletRequest request = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+
+		assertThat(verifier.verify(request, NOW_MILLIS)).isTrue();
+	}
+
+	@Test
+	void rejectsExpiredHeadersEvenWithValidSignature() throws Exception {
+		MockHttpServletRequest request = signedRequest("1", "user", "USER", NOW_MILLIS / 1000, "jti-1");
+
+		assertThat(verifier.verify(request, NOW_MILLIS)).isFalse();
+	}
+
+	@Test
+	void rejectsTamperedHeaders() throws Exception {
+		MockHttpServletRequest extended = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+		extended.removeHeader(GatewayHeaderVerifier.EXPIRES_HEADER);
+		extended.addHeader(GatewayHeaderVerifier.EXPIRES_HEADER, Long.toString(NOW_MILLIS / 1000 + 3600));
+		assertThat(verifier.verify(extended, NOW_MILLIS)).isFalse();
+
+		MockHttpServletRequest otherToken = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+		otherToken.removeHeader(GatewayHeaderVerifier.TOKEN_ID_HEADER);
+		otherToken.addHeader(GatewayHeaderVerifier.TOKEN_ID_HEADER, "jti-2");
+		assertThat(verifier.verify(otherToken, NOW_MILLIS)).isFalse();
+
+		MockHttpServletRequest escalated = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+		escalated.removeHeader(GatewayHeaderVerifier.ROLE_HEADER);
+		escalated.addHeader(GatewayHeaderVerifier.ROLE_HEADER, "ADMIN");
+		assertThat(verifier.verify(escalated, NOW_MILLIS)).isFalse();
+	}
+
+	@Test
+	void rejectsMissingOrMalformedExpiry() throws Exception {
+		MockHttpServletRequest missing = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+		missing.removeHeader(GatewayHeaderVerifier.EXPIRES_HEADER);
+		assertThat(verifier.verify(missing, NOW_MILLIS)).isFalse();
+
+		MockHttpServletRequest malformed = signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1");
+		malformed.removeHeader(GatewayHeaderVerifier.EXPIRES_HEADER);
+		malformed.addHeader(GatewayHeaderVerifier.EXPIRES_HEADER, "tomorrow");
+		assertThat(verifier.verify(malformed, NOW_MILLIS)).isFalse();
+	}
+
+	@Test
+	void disabledVerifierNeverTrustsHeaders() throws Exception {
+		GatewayHeaderVerifier disabled = new GatewayHeaderVerifier(false, "");
+
+		assertThat(disabled.verify(signedRequest("1", "user", "USER", NOW_MILLIS / 1000 + 60, "jti-1"), NOW_MILLIS))
+				.isFalse();
+		assertThatThrownBy(() -> new GatewayHeaderVerifier(true, "")).isInstanceOf(IllegalStateException.class);
+	}
+
+	/**
+	 * 게이트웨이 IdentityHeaderSigner 와 같은 방식으로 서명한 요청
+	 */
+	private static MockHttpServletRequest signedRequest(String userId, String username, String role, long expires,
+			String tokenId) throws Exception {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String payload = userId + '\n' + username + '\n' + role + '\n' + expires + '\n' + tokenId;
+		String signature = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+		request.addHeader(GatewayHeaderVerifier.USER_ID_HEADER, userId);
+		request.addHeader(GatewayHeaderVerifier.USERNAME_HEADER, username);
+		request.addHeader(GatewayHeaderVerifier.ROLE_HEADER, role);
+		request.addHeader(GatewayHeaderVerifier.EXPIRES_HEADER, Long.toString(expires));
+		request.addHeader(GatewayHeaderVerifier.TOKEN_ID_HEADER, tokenId);
+		request.addHeader(GatewayHeaderVerifier.SIGNATURE_HEADER, signature);
+		return request;
+	}
+}
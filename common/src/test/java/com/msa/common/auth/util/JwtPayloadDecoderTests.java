@@ -0,0 +1,100 @@
+package com.msa.common.auth.util;
+
+import com.msa.common.auth.model.TokenClaims;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtPayloadDecoderTests {
+
+	private static final String HEADER = encode("{\"alg\":\"HS256\"}");
+
+	@Test
+	void decodesEveryPaddingRemainder() {
+		// 값 길이를 바꿔 Base64URL 길이의 나머지(0, 2, 3)를 모두 확인
+		for (int length = 1; length <= 12; length++) {
+			String userId = "7".repeat(length);
+			String json = "{\"userId\":\"" + userId + "\",\"exp\":1760000000}";
+
+			TokenClaims claims = JwtPayloadDecoder.decode(HEADER + "." + encode(json) + ".sig");
+
+			assertThat(claims.userId()).as("length %d", length).isEqualTo(userId);
+			assertThat(claims.expiresAt()).isEqualTo(1760000000L);
+		}
+	}
+
+	@Test
+	void decodesUrlSafeAlphabetAndOptionalPadding() {
+		// '?' 와 '>' 가 들어가면 표준 Base64 의 '+', '/' 위치에 '-', '_' 가 나옴
+		String json = "{\"sub\":\"a?b>c~\",\"authorities\":\"ROLE_USER\"}";
+		String payload = encode(json);
+		assertThat(payload).containsAnyOf("-", "_");
+
+		TokenClaims claims = JwtPayloadDecoder.decode(HEADER + "." + payload + ".sig");
+		assertThat(claims.subject()).isEqualTo("a?b>c~");
+		assertThat(claims.authorities()).isEqualTo("ROLE_USER");
+
+		String padded = Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+		assertThat(JwtPayloadDecoder.decode(HEADER + "." + padded + ".sig").subject()).isEqualTo("a?b>c~");
+	}
+
+	@Test
+	void decodesMultiByteUtf8() {
+		TokenClaims claims = JwtPayloadDecoder.decode(HEADER + "." + encode("{\"sub\":\"회원😀\"}") + ".sig");
+
+		assertThat(claims.subject()).isEqualTo("회원😀");
+	}
+
+	@Test
+	void rejectsCharactersOutsideUrlAlphabet() {
+		String json = "{\"sub\":\"a?b>c~\"}";
+		String standard = Base64.getEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+		assertThat(standard).containsAnyOf("+", "/");
+
+		assertThat(JwtPayloadDecoder.decode(HEADER + "." + standard + ".sig")).isSameAs(TokenClaims.EMPTY);
+		assertThat(JwtPayloadDecoder.decode(HEADER + ".eyJzdWIiOiJ4In0한.sig")).isSameAs(TokenClaims.EMPTY);
+	}
+
+	@Test
+	void returnsEmptyForMalformedTokens() {
+		assertThat(JwtPayloadDecoder.decode(null)).isSameAs(TokenClaims.EMPTY);
+		assertThat(JwtPayloadDecoder.decode("no-dots")).isSameAs(TokenClaims.EMPTY);
+		assertThat(JwtPayloadDecoder.decode(HEADER + "..sig")).isSameAs(TokenClaims.EMPTY);
+		assertThat(JwtPayloadDecoder.decode(HEADER + "." + encode("not json") + ".sig")).isSameAs(TokenClaims.EMPTY);
+		assertThat(JwtPayloadDecoder.decode(HEADER + "." + encode("{}") + ".sig")).isSameAs(TokenClaims.EMPTY);
+
+		assertThat(JwtPayloadDecoder.hasThreeParts("a.b.c")).isTrue();
+		assertThat(JwtPayloadDecoder.hasThreeParts("a.b")).isFalse();
+		assertThat(JwtPayloadDecoder.hasThreeParts("a.b.c.d")).isFalse();
+	}
+
+	@Test
+	void decodesLargePayload() {
+		String authorities = "ROLE_" + "X".repeat(4096);
+
+		TokenClaims claims = JwtPayloadDecoder.decode(
+				HEADER + "." + encode("{\"userId\":7,\"authorities\":\"" + authorities + "\"}") + ".sig");
+
+		assertThat(claims.userId()).isEqualTo("7");
+		assertThat(claims.authorities()).isEqualTo(authorities);
+	}
+
+	@Test
+	void readsCompactAndLegacyClaims() {
+		TokenClaims compact = JwtPayloadDecoder.decode(HEADER + "." + encode("{\"uid\":7,\"rl\":3}") + ".sig");
+		assertThat(compact.userId()).isEqualTo("7");
+		assertThat(compact.authorities()).isEqualTo("ROLE_USER,ROLE_ADMIN");
+
+		TokenClaims legacy = JwtPayloadDecoder.decode(
+				HEADER + "." + encode("{\"user_id\":\"7\",\"roles\":[\"ROLE_USER\",\"ROLE_ADMIN\"]}") + ".sig");
+		assertThat(legacy.userId()).isEqualTo("7");
+		assertThat(legacy.authorities()).isEqualTo("ROLE_USER,ROLE_ADMIN");
+	}
+
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,85 @@
+package com.msa.gateway.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * 게이트웨이가 전달하는 사용자 정보 헤더(X-Auth-UserId, X-Auth-Username, X-Auth-Role)의 HMAC 서명기
+ * 하위 서비스의 신뢰 게이트웨이 모드(common GatewayHeaderVerifier)는 이 서명으로 헤더를 검증하고 JWT 를 다시 디코딩하지 않습니다.
+ * 서명 대상은 "userId\nusername\nrole\nexpires\ntokenId" (없는 값은 빈 문자열) 이며, 결과는 패딩 없는 Base64URL 입니다.
+ * expires 는 토큰 exp(epoch 초, X-Auth-Expires), tokenId 는 jti(X-Auth-TokenId) 로, 하위 서비스는 만료된 서명을 거부합니다.
+ * security.trusted-gateway.secret 이 비어 있으면 서명하지 않습니다.
+ */
+@Slf4j
+@Component
+public class IdentityHeaderSigner {
+
+    /**
+     * 서명 값을 담는 헤더 이름
+     */
+    public static final String SIGNATURE_HEADER = "X-Auth-Signature";
+
+    /**
+     * 토큰 만료 시각(epoch 초)을 담는 헤더 이름
+     */
+    public static final String EXPIRES_HEADER = "X-Auth-Expires";
+
+    /**
+     * 토큰 ID(jti)를 담는 헤더 이름
+     */
+    public static final String TOKEN_ID_HEADER = "X-Auth-TokenId";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public IdentityHeaderSigner(@Value("${security.trusted-gateway.secret:}") String secret) {
+        if (secret.isEmpty()) {
+            this.key = null;
+            this.mac = null;
+            log.info("[게이트웨이 헤더 서명] security.trusted-gateway.secret 미설정, 사용자 정보 헤더를 서명하지 않음");
+            return;
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 사용자 정보 헤더 값에 대한 서명을 만듭니다.
+     *
+     * @param expires X-Auth-Expires 헤더 값 (토큰 exp, epoch 초)
+     * @param tokenId X-Auth-TokenId 헤더 값 (jti)
+     * @return 서명 (서명 키가 없으면 null)
+     */
+    public String sign(String userId, String username, String role, String expires, String tokenId) {
+        if (mac == null) {
+            return null;
+        }
+        String payload = nullToEmpty(userId) + '\n' + nullToEmpty(username) + '\n' + nullToEmpty(role)
+                + '\n' + nullToEmpty(expires) + '\n' + nullToEmpty(tokenId);
+        byte[] signature = mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
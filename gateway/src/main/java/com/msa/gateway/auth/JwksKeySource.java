@@ -0,0 +1,202 @@
+package com.msa.gateway.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * auth-service 의 JWKS 를 주기적으로 가져와 JwtTokenVerifier 의 공개 키로 적용합니다.
+ * 백그라운드에서만 조회하여 요청 처리 경로를 막지 않으며, 마지막 ETag 로 If-None-Match 를 보내
+ * 키가 그대로면 304 한 번으로 끝납니다. 키가 바뀌면 검증 결과 캐시를 비웁니다.
+ * jwt.jwks.uri 가 lb://{서비스 이름}/... 이면 라우트와 같은 로드 밸런서(Eureka)로 인스턴스를 골라 조회합니다.
+ * jwt.jwks.uri 가 비어 있으면 동작하지 않습니다.
+ */
+@Slf4j
+@Component
+public class JwksKeySource {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final String LOAD_BALANCED_SCHEME = "lb";
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ObjectProvider<ReactiveLoadBalancer.Factory<ServiceInstance>> loadBalancerFactoryProvider;
+    private final String uri;
+    private final Duration refreshInterval;
+    private final WebClient webClient;
+
+    private Disposable task;
+
+    // 조회는 concatMap 으로 순서대로만 실행되므로 별도 동기화 불필요
+    private String etag;
+
+    public JwksKeySource(JwtTokenVerifier jwtTokenVerifier,
+                         VerifiedTokenCache verifiedTokenCache,
+                         ObjectProvider<ReactiveLoadBalancer.Factory<ServiceInstance>> loadBalancerFactoryProvider,
+                         @Value("${jwt.jwks.uri:}") String uri,
+                         @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.loadBalancerFactoryProvider = loadBalancerFactoryProvider;
+        this.uri = uri;
+        this.refreshInterval = refreshInterval;
+        this.webClient = WebClient.create();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (uri.isEmpty()) {
+            return;
+        }
+        task = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(e -> {
+                    // 실패 시 이전 키를 그대로 사용하고 다음 주기에 다시 시도
+                    log.warn("[JWKS] 조회 실패: {} {}", uri, e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (task != null) {
+            task.dispose();
+        }
+    }
+
+    Mono<Void> refresh() {
+        return resolve(URI.create(uri)).flatMap(target -> webClient.get()
+                .uri(target)
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode() == HttpStatus.NOT_MODIFIED) {
+                        return response.releaseBody();
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        log.warn("[JWKS] 조회 실패: {} {}", uri, response.statusCode());
+                        return response.releaseBody();
+                    }
+                    String newEtag = response.headers().asHttpHeaders().getETag();
+                    return response.bodyToMono(byte[].class)
+                            .doOnNext(body -> {
+                                apply(parse(body));
+                                etag = newEtag;
+                            })
+                            .then();
+                })
+                .timeout(Duration.ofSeconds(5)));
+    }
+
+    /**
+     * lb:// 주소는 로드 밸런서가 고른 인스턴스 주소로 바꿉니다. 인스턴스가 없으면 빈 Mono 를 반환합니다.
+     */
+    private Mono<URI> resolve(URI configured) {
+        if (!LOAD_BALANCED_SCHEME.equals(configured.getScheme())) {
+            return Mono.just(configured);
+        }
+        ReactiveLoadBalancer.Factory<ServiceInstance> factory = loadBalancerFactoryProvider.getIfAvailable();
+        if (factory == null) {
+            return Mono.error(new IllegalStateException("lb:// 주소를 사용하려면 로드 밸런서가 필요합니다: " + configured));
+        }
+        String query = configured.getRawQuery() != null ? "?" + configured.getRawQuery() : "";
+        return Mono.from(factory.getInstance(configured.getHost()).choose())
+                .filter(Response::hasServer)
+                .map(response -> URI.create(response.getServer().getUri().toString() + configured.getRawPath() + query))
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("[JWKS] 조회할 인스턴스 없음: {}", configured)));
+    }
+
+    private void apply(Map<String, JwtTokenVerifier.VerificationKey> keys) {
+        jwtTokenVerifier.updateRemoteKeys(keys);
+        // 제거된 키로 검증된 결과가 남지 않도록 캐시를 비움 (키 교체 시에만 발생)
+        verifiedTokenCache.invalidateAll();
+        log.info("[JWKS] 공개 키 {}개 적용", keys.size());
+    }
+
+    /**
+     * JWKS 본문에서 RSA/EC 서명 키만 읽습니다. 알 수 없는 항목은 건너뜁니다.
+     */
+    static Map<String, JwtTokenVerifier.VerificationKey> parse(byte[] body) {
+        Map<String, JwtTokenVerifier.VerificationKey> keys = new HashMap<>();
+        try {
+            for (JsonNode jwk : MAPPER.readTree(body).path("keys")) {
+                String kid = jwk.path("kid").asText(null);
+                String alg = jwk.path("alg").asText(null);
+                if (kid == null || alg == null) {
+                    continue;
+                }
+                PublicKey key = toPublicKey(jwk, alg);
+                if (key != null) {
+                    keys.put(kid, new JwtTokenVerifier.VerificationKey(alg, key));
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWKS 문서를 읽을 수 없습니다.", e);
+        }
+        return keys;
+    }
+
+    private static PublicKey toPublicKey(JsonNode jwk, String alg) throws GeneralSecurityException {
+        String kty = jwk.path("kty").asText("");
+        if ("RSA".equals(kty) && (alg.startsWith("RS") || alg.startsWith("PS"))) {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                    unsigned(jwk.path("n").asText()), unsigned(jwk.path("e").asText())));
+        }
+        if ("EC".equals(kty) && alg.startsWith("ES")) {
+            String curve = switch (jwk.path("crv").asText("")) {
+                case "P-256" -> "secp256r1";
+                case "P-384" -> "secp384r1";
+                case "P-521" -> "secp521r1";
+                default -> null;
+            };
+            if (curve == null) {
+                return null;
+            }
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec(curve));
+            ECPoint point = new ECPoint(unsigned(jwk.path("x").asText()), unsigned(jwk.path("y").asText()));
+            return KeyFactory.getInstance("EC").generatePublic(
+                    new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+        }
+        return null;
+    }
+
+    private static BigInteger unsigned(String value) {
+        return new BigInteger(1, BASE64_URL.decode(value));
+    }
+}
@@ -0,0 +1,201 @@
+package com.msa.gateway.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 JWT 서명 검증기
+ * JwtParser 는 기동 시 한 번만 생성하며(불변, 스레드 안전), 검증 키는 JWT 헤더의 kid 로 찾습니다.
+ * - 설정 키: kid "default" 인 jwt.secret 의 HMAC 키(kid 가 없는 토큰도 이 키)와 jwt.keys[n] 의 키
+ *   (common JwtKeyRing 과 같은 형식, HMAC 은 secret, 비대칭 키는 public-key 만 사용. 설정 갱신으로 바뀌면 교체)
+ * - 원격 키: JwksKeySource 가 auth-service JWKS 에서 가져온 공개 키 (같은 kid 면 설정 키가 우선)
+ * HMAC 키 교체는 jwt.keys 에 새 kid 를 추가해 게이트웨이에 반영된 뒤 auth-service 의 active-kid 를 바꿉니다.
+ * 키는 불변 맵을 통째로 바꾸므로 검증 경로에는 잠금이 없습니다.
+ */
+@Slf4j
+@Component
+public class JwtTokenVerifier {
+
+    private static final String SECRET_PROPERTY = "jwt.secret";
+    private static final String KEYS_PROPERTY = "jwt.keys";
+
+    private static final String DEFAULT_KID = "default";
+
+    private final Environment environment;
+    private final JwtParser jwtParser;
+
+    private volatile Map<String, VerificationKey> configuredKeys = Map.of();
+    private volatile Map<String, VerificationKey> remoteKeys = Map.of();
+
+    public JwtTokenVerifier(Environment environment) {
+        this.environment = environment;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KidKeyResolver())
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     * 검증에 실패하면 JwtException(만료 시 ExpiredJwtException)이 발생합니다.
+     * exp 클레임이 없는 토큰은 서명이 맞아도 영구히 유효해지므로 거부합니다.
+     *
+     * @param token Bearer 접두사를 제거한 JWT 토큰
+     * @return 검증된 클레임
+     */
+    public Claims verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() == null) {
+            throw new JwtException("exp 클레임이 없는 토큰입니다");
+        }
+        return claims;
+    }
+
+    /**
+     * JWKS 에서 가져온 공개 키 목록을 교체합니다.
+     *
+     * @param keys kid 별 공개 키
+     */
+    public void updateRemoteKeys(Map<String, VerificationKey> keys) {
+        this.remoteKeys = Map.copyOf(keys);
+    }
+
+    /**
+     * 설정 갱신 시 jwt.secret 또는 jwt.keys 가 변경된 경우에만 설정 키를 다시 만듭니다.
+     * 검증 결과 캐시 초기화보다 먼저 실행되도록 가장 높은 우선순위를 가집니다.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (isKeyProperty(event.getKeys())) {
+            reload();
+        }
+    }
+
+    /**
+     * 검증 키 설정(jwt.secret, jwt.keys)이 포함되어 있는지 확인합니다.
+     */
+    static boolean isKeyProperty(Collection<String> keys) {
+        for (String key : keys) {
+            if (key.equals(SECRET_PROPERTY) || key.startsWith(KEYS_PROPERTY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void reload() {
+        Map<String, VerificationKey> keys = new HashMap<>();
+        String secret = environment.getRequiredProperty(SECRET_PROPERTY);
+        keys.put(DEFAULT_KID, new VerificationKey(SignatureAlgorithm.HS256.getValue(),
+                Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+        List<KeyProperties> configured = Binder.get(environment)
+                .bind(KEYS_PROPERTY, Bindable.listOf(KeyProperties.class))
+                .orElse(Collections.emptyList());
+        for (KeyProperties properties : configured) {
+            keys.put(properties.getKid(), properties.toVerificationKey());
+        }
+        this.configuredKeys = Map.copyOf(keys);
+        log.info("[게이트웨이 토큰 검증] 설정 키 {}개 적용 {}", keys.size(), keys.keySet());
+    }
+
+    /**
+     * kid 별 검증 키
+     *
+     * @param algorithm 서명 알고리즘 (JWS alg, 예: HS256, RS256)
+     * @param key       검증 키 (HMAC 은 비밀 키, 비대칭 알고리즘은 공개 키)
+     */
+    public record VerificationKey(String algorithm, Key key) {
+    }
+
+    /**
+     * jwt.keys 설정 항목 (common JwtKeyRing 과 같은 형식, 게이트웨이는 private-key 를 사용하지 않음)
+     */
+    @Getter
+    @Setter
+    public static class KeyProperties {
+        private String kid;
+        private String algorithm = SignatureAlgorithm.HS256.getValue();
+        private String secret;
+        private String publicKey;
+
+        VerificationKey toVerificationKey() {
+            SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+            if (signatureAlgorithm == SignatureAlgorithm.NONE) {
+                throw new IllegalStateException("서명하지 않는 알고리즘은 사용할 수 없습니다: " + kid);
+            }
+            if (signatureAlgorithm.isHmac()) {
+                return new VerificationKey(signatureAlgorithm.getValue(),
+                        Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+            }
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(signatureAlgorithm.isRsa() ? "RSA" : "EC");
+                String body = publicKey.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+                return new VerificationKey(signatureAlgorithm.getValue(),
+                        keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(body))));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("jwt.keys 의 키를 읽을 수 없습니다: " + kid, e);
+            }
+        }
+    }
+
+    /**
+     * kid 로 검증 키를 찾고, 헤더의 alg 가 키의 알고리즘과 같은지 확인합니다.
+     */
+    private class KidKeyResolver extends SigningKeyResolverAdapter {
+
+        // jjwt 0.11 의 SigningKeyResolver 가 JwsHeader 를 타입 인자 없이 선언하므로 그대로 재정의
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KID;
+            VerificationKey key = configuredKeys.get(kid);
+            if (key == null) {
+                key = remoteKeys.get(kid);
+            }
+            if (key == null) {
+                throw new SignatureException("등록되지 않은 kid 입니다: " + kid);
+            }
+            // 헤더의 alg 를 바꿔 다른 종류의 키로 검증하게 만드는 공격 방지
+            if (!key.algorithm().equals(header.getAlgorithm())) {
+                throw new SignatureException("kid " + kid + " 의 알고리즘과 다릅니다: " + header.getAlgorithm());
+            }
+            return key.key();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.msa.gateway.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인증 없이 접근 가능한 공개 경로 판별기
+ * gateway.public-routes 설정(경로 패턴 + HTTP 메소드)을 기동 시 PathPattern 으로 컴파일하고
+ * 첫 번째 경로 세그먼트로 색인하여, 공개 경로가 늘어나도 요청당 검사 대상이 늘지 않도록 합니다.
+ * 설정 갱신(refresh) 시 새 테이블을 만들어 통째로 교체합니다.
+ */
+@Slf4j
+@Component
+public class PublicPathMatcher {
+
+    private static final String PROPERTY_PREFIX = "gateway.public-routes";
+
+    private final Environment environment;
+
+    private volatile CompiledRoutes compiledRoutes = CompiledRoutes.EMPTY;
+
+    public PublicPathMatcher(Environment environment) {
+        this.environment = environment;
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 요청이 공개 경로에 해당하는지 확인합니다.
+     */
+    public boolean matches(ServerHttpRequest request) {
+        return compiledRoutes.matches(request.getPath().pathWithinApplication(), request.getMethod());
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        for (String key : event.getKeys()) {
+            if (key.startsWith(PROPERTY_PREFIX)) {
+                reload();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 주어진 공개 경로 목록으로 매칭 테이블을 교체합니다.
+     */
+    public void reload(List<PublicRoute> routes) {
+        this.compiledRoutes = CompiledRoutes.compile(routes);
+        log.info("[게이트웨이 공개 경로] {}개 경로 적용", routes.size());
+    }
+
+    private void reload() {
+        List<PublicRoute> routes = Binder.get(environment)
+                .bind(PROPERTY_PREFIX, Bindable.listOf(PublicRoute.class))
+                .orElse(Collections.emptyList());
+        reload(routes);
+    }
+
+    /**
+     * 공개 경로 설정 항목
+     * methods 가 비어 있으면 모든 메소드를 허용합니다.
+     */
+    @Getter
+    @Setter
+    public static class PublicRoute {
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+
+        public PublicRoute() {
+        }
+
+        public PublicRoute(String pattern, List<String> methods) {
+            this.pattern = pattern;
+            this.methods = methods;
+        }
+    }
+
+    private record CompiledRoute(PathPattern pattern, Set<HttpMethod> methods) {
+
+        boolean matches(PathContainer path, HttpMethod method) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+
+    /**
+     * 첫 번째 세그먼트가 고정 문자열인 패턴은 세그먼트별로 색인하고,
+     * 와일드카드로 시작하는 패턴만 모든 요청에 대해 검사합니다.
+     */
+    private record CompiledRoutes(Map<String, List<CompiledRoute>> bySegment, List<CompiledRoute> wildcard) {
+
+        static final CompiledRoutes EMPTY = new CompiledRoutes(Map.of(), List.of());
+
+        static CompiledRoutes compile(List<PublicRoute> routes) {
+            PathPatternParser parser = PathPatternParser.defaultInstance;
+            Map<String, List<CompiledRoute>> bySegment = new HashMap<>();
+            List<CompiledRoute> wildcard = new ArrayList<>();
+
+            for (PublicRoute route : routes) {
+                Set<HttpMethod> methods = route.getMethods() == null ? Set.of() : route.getMethods().stream()
+                        .map(method -> HttpMethod.valueOf(method.trim().toUpperCase()))
+                        .collect(Collectors.toUnmodifiableSet());
+                CompiledRoute compiled = new CompiledRoute(parser.parse(route.getPattern()), methods);
+
+                String segment = firstSegment(route.getPattern());
+                if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0 || segment.indexOf('?') >= 0) {
+                    wildcard.add(compiled);
+                } else {
+                    bySegment.computeIfAbsent(segment, key -> new ArrayList<>()).add(compiled);
+                }
+            }
+
+            Map<String, List<CompiledRoute>> frozen = new HashMap<>();
+            bySegment.forEach((segment, list) -> frozen.put(segment, List.copyOf(list)));
+            return new CompiledRoutes(Map.copyOf(frozen), List.copyOf(wildcard));
+        }
+
+        boolean matches(PathContainer path, HttpMethod method) {
+            List<CompiledRoute> candidates = bySegment.get(firstSegment(path.value()));
+            if (candidates != null) {
+                for (CompiledRoute route : candidates) {
+                    if (route.matches(path, method)) {
+                        return true;
+                    }
+                }
+            }
+            for (CompiledRoute route : wildcard) {
+                if (route.matches(path, method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String firstSegment(String path) {
+            int start = path.startsWith("/") ? 1 : 0;
+            int end = path.indexOf('/', start);
+            return end < 0 ? path.substring(start) : path.substring(start, end);
+        }
+    }
+}
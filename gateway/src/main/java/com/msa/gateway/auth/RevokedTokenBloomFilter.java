@@ -0,0 +1,86 @@
+package com.msa.gateway.auth;
+
+import java.util.Collection;
+
+/**
+ * 폐기된 토큰 ID(jti) 블룸 필터 (불변)
+ * 항목 수와 오탐률로 비트 수와 해시 수를 정하고, 64비트 해시 하나를 두 개로 나눠 이중 해싱합니다.
+ * 조회는 할당 없이 비트 몇 개만 확인하며, 음성이면 확실히 폐기되지 않은 토큰입니다.
+ */
+public final class RevokedTokenBloomFilter {
+
+    /**
+     * 항목이 없는 필터 (항상 음성)
+     */
+    public static final RevokedTokenBloomFilter EMPTY = new RevokedTokenBloomFilter(new long[1], 0, 0);
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private RevokedTokenBloomFilter(long[] bits, int bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param tokenIds          폐기된 jti 목록
+     * @param falsePositiveRate 목표 오탐률 (예: 0.001)
+     */
+    public static RevokedTokenBloomFilter of(Collection<String> tokenIds, double falsePositiveRate) {
+        if (tokenIds.isEmpty()) {
+            return EMPTY;
+        }
+        int n = tokenIds.size();
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+
+        long[] bits = new long[(bitCount + 63) >>> 6];
+        for (String tokenId : tokenIds) {
+            long hash = hash(tokenId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int index = Math.floorMod(h1 + i * h2, bitCount);
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+        return new RevokedTokenBloomFilter(bits, bitCount, hashCount);
+    }
+
+    /**
+     * 폐기되었을 가능성이 있으면 true (오탐 가능), false 면 확실히 폐기되지 않음
+     */
+    public boolean mightContain(String tokenId) {
+        if (hashCount == 0) {
+            return false;
+        }
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64비트 해시 후 비트를 섞어 상/하위 32비트를 고르게 만듭니다.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,83 @@
+package com.msa.gateway.auth;
+
+import java.util.Map;
+
+/**
+ * authorities 클레임을 X-Auth-Role 헤더 값으로 변환하는 고정 매핑 테이블
+ * (ROLE_USER -> USER, ROLE_ADMIN -> ADMIN, ROLE_SUPER_ADMIN -> SUPER_ADMIN)
+ * 쉼표로 구분된 다중 권한은 각각 변환하여 같은 순서로 이어 붙이며, 테이블에 없는 권한은 그대로 둡니다.
+ * 변환은 토큰 검증 시 한 번만 수행되어 VerifiedToken 에 저장됩니다.
+ * 압축 토큰 프로필의 역할 코드(rl, ROLE_USER=1, ROLE_ADMIN=2, ROLE_SUPER_ADMIN=4 비트 합, common RoleCodes 와 동일)는
+ * 코드별 authorities 문자열을 미리 만들어 둡니다.
+ * CODE_AUTHORITIES 를 바꾸면 common RoleCodes 도 함께 바꿔야 하며, RoleHeaderMapperRoleCodesTests 가 일치 여부를 확인합니다.
+ */
+public final class RoleHeaderMapper {
+
+    private static final Map<String, String> ROLE_HEADER_VALUES = Map.of(
+            "ROLE_USER", "USER",
+            "ROLE_ADMIN", "ADMIN",
+            "ROLE_SUPER_ADMIN", "SUPER_ADMIN");
+
+    private static final String[] CODE_AUTHORITIES = {"ROLE_USER", "ROLE_ADMIN", "ROLE_SUPER_ADMIN"};
+
+    private static final String[] AUTHORITIES_BY_CODE = new String[1 << CODE_AUTHORITIES.length];
+
+    static {
+        for (int code = 1; code < AUTHORITIES_BY_CODE.length; code++) {
+            StringBuilder joined = new StringBuilder();
+            for (int bit = 0; bit < CODE_AUTHORITIES.length; bit++) {
+                if ((code & (1 << bit)) != 0) {
+                    if (joined.length() > 0) {
+                        joined.append(',');
+                    }
+                    joined.append(CODE_AUTHORITIES[bit]);
+                }
+            }
+            AUTHORITIES_BY_CODE[code] = joined.toString();
+        }
+    }
+
+    private RoleHeaderMapper() {
+        throw new IllegalStateException("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    public static String toHeaderValue(String authorities) {
+        if (authorities == null) {
+            return null;
+        }
+        if (authorities.indexOf(',') < 0) {
+            return mapSingle(authorities);
+        }
+
+        StringBuilder builder = new StringBuilder(authorities.length());
+        int start = 0;
+        while (start <= authorities.length()) {
+            int end = authorities.indexOf(',', start);
+            if (end < 0) {
+                end = authorities.length();
+            }
+            String role = authorities.substring(start, end).trim();
+            if (!role.isEmpty()) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(mapSingle(role));
+            }
+            start = end + 1;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 역할 코드를 쉼표로 구분된 authorities 문자열로 변환합니다.
+     *
+     * @return authorities (코드가 0 이거나 범위를 벗어나면 null)
+     */
+    public static String authoritiesOf(long roleCode) {
+        return roleCode > 0 && roleCode < AUTHORITIES_BY_CODE.length ? AUTHORITIES_BY_CODE[(int) roleCode] : null;
+    }
+
+    private static String mapSingle(String authority) {
+        return ROLE_HEADER_VALUES.getOrDefault(authority, authority);
+    }
+}
@@ -0,0 +1,128 @@
+package com.msa.gateway.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 폐기된 액세스 토큰 확인기
+ * auth-service 가 로그아웃 시 Redis 에 기록한 폐기 jti 목록(revoked_tokens)을 주기적으로 읽어 블룸 필터를 만들고,
+ * 요청마다 필터만 확인합니다. 필터 양성인 토큰만 revoked_token:{jti} 키로 Redis 에서 확정하므로
+ * 폐기되지 않은 대부분의 요청은 Redis 를 거치지 않습니다.
+ * 폐기 후 다음 동기화(sync-interval)까지는 필터에 반영되지 않을 수 있습니다.
+ * 필터 양성/폐기 확정 건수는 gateway.auth.revocation 카운터로 집계합니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationChecker {
+
+    private static final String REVOKED_TOKEN_PREFIX = "revoked_token:";
+    private static final String REVOKED_TOKENS_KEY = "revoked_tokens";
+
+    private final ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider;
+    private final boolean enabled;
+    private final Duration syncInterval;
+    private final double falsePositiveRate;
+    private final Counter positiveCounter;
+    private final Counter revokedCounter;
+
+    private volatile RevokedTokenBloomFilter filter = RevokedTokenBloomFilter.EMPTY;
+    private Disposable task;
+
+    public TokenRevocationChecker(ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${gateway.auth.revocation.enabled:false}") boolean enabled,
+                                  @Value("${gateway.auth.revocation.sync-interval:5s}") Duration syncInterval,
+                                  @Value("${gateway.auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.enabled = enabled;
+        this.syncInterval = syncInterval;
+        this.falsePositiveRate = falsePositiveRate;
+        this.positiveCounter = Counter.builder("gateway.auth.revocation")
+                .tag("result", "filter-positive")
+                .description("블룸 필터 양성으로 Redis 확인한 요청 수")
+                .register(meterRegistry);
+        this.revokedCounter = Counter.builder("gateway.auth.revocation")
+                .tag("result", "revoked")
+                .description("폐기된 토큰으로 거부한 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        task = Flux.interval(Duration.ZERO, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> synchronize().onErrorResume(e -> {
+                    // 실패 시 이전 필터를 그대로 사용
+                    log.warn("[토큰 폐기] 목록 동기화 실패: {}", e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (task != null) {
+            task.dispose();
+        }
+    }
+
+    /**
+     * 폐기되었을 가능성이 있는지 필터만 확인합니다. false 면 Redis 확인 없이 통과시킵니다.
+     *
+     * @param tokenId jti 클레임 (없으면 항상 false)
+     */
+    public boolean mightBeRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId);
+    }
+
+    /**
+     * 필터 양성인 토큰이 실제로 폐기되었는지 Redis 에서 확인합니다.
+     * Redis 를 사용할 수 없으면 폐기되지 않은 것으로 간주합니다.
+     */
+    public Mono<Boolean> isRevoked(String tokenId) {
+        positiveCounter.increment();
+        ReactiveStringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return Mono.just(false);
+        }
+        return redisTemplate.hasKey(REVOKED_TOKEN_PREFIX + tokenId)
+                .doOnNext(revoked -> {
+                    if (revoked) {
+                        revokedCounter.increment();
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("[토큰 폐기] 확인 실패: {}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    Mono<Void> synchronize() {
+        ReactiveStringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return Mono.empty();
+        }
+        // 아직 만료되지 않은 폐기 토큰만 (점수 = 토큰 만료 시각)
+        Range<Double> unexpired = Range.rightUnbounded(Range.Bound.inclusive((double) System.currentTimeMillis()));
+        return redisTemplate.opsForZSet().rangeByScore(REVOKED_TOKENS_KEY, unexpired)
+                .collectList()
+                .doOnNext(tokenIds -> filter = RevokedTokenBloomFilter.of(tokenIds, falsePositiveRate))
+                .then();
+    }
+}
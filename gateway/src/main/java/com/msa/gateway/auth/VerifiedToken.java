@@ -0,0 +1,40 @@
+package com.msa.gateway.auth;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증이 끝난 토큰에서 게이트웨이가 사용하는 클레임만 보관하는 불변 객체
+ *
+ * @param userId        userId 클레임 (없으면 압축 프로필의 uid, 모두 없으면 null)
+ * @param subject       sub 클레임 (사용자 이름)
+ * @param authorities   authorities 클레임 (예: ROLE_USER, 없으면 압축 프로필의 rl 역할 코드로 변환)
+ * @param role          X-Auth-Role 헤더 값 (예: USER, RoleHeaderMapper 로 미리 변환)
+ * @param expiresAtMillis exp 클레임 (epoch 밀리초, JwtTokenVerifier 가 exp 없는 토큰을 거부하므로 항상 존재)
+ * @param tokenId       jti 클레임 (폐기 확인용, 없으면 null)
+ */
+public record VerifiedToken(String userId, String subject, String authorities, String role, long expiresAtMillis,
+                            String tokenId) {
+
+    public static VerifiedToken from(Claims claims) {
+        String authorities = claims.get("authorities", String.class);
+        String userId = claims.get("userId", String.class);
+        // 압축 토큰 프로필: uid(숫자 userId), rl(역할 코드)
+        if (authorities == null && claims.get("rl") instanceof Number roleCode) {
+            authorities = RoleHeaderMapper.authoritiesOf(roleCode.longValue());
+        }
+        if (userId == null && claims.get("uid") instanceof Number uid) {
+            userId = Long.toString(uid.longValue());
+        }
+        return new VerifiedToken(
+                userId,
+                claims.getSubject(),
+                authorities,
+                RoleHeaderMapper.toHeaderValue(authorities),
+                claims.getExpiration().getTime(),
+                claims.getId());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
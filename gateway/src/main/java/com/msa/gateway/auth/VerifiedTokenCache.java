@@ -0,0 +1,108 @@
+package com.msa.gateway.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+/**
+ * 검증된 토큰 캐시
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰 자신의 exp 시각에 만료되고
+ * 최대 개수를 넘으면 크기 기반으로 제거됩니다. 캐시 적중 시 HMAC 검증과 JSON 파싱을 모두 건너뜁니다.
+ * 적중/실패 지표는 actuator metrics 의 cache.* (cache=gateway.verified-token) 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "gateway.verified-token";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenVerifier jwtTokenVerifier,
+                              MeterRegistry meterRegistry,
+                              @Value("${gateway.auth.token-cache.enabled:true}") boolean enabled,
+                              @Value("${gateway.auth.token-cache.max-size:100000}") long maxSize) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((ByteBuffer key, VerifiedToken value) ->
+                        Duration.ofMillis(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에서 검증된 토큰을 찾고, 없으면 서명을 검증한 뒤 캐시에 저장합니다.
+     * 검증 실패 시 JwtException 이 그대로 전파되며 실패 결과는 캐시하지 않습니다.
+     *
+     * @param token Bearer 접두사를 제거한 JWT 토큰
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken resolve(String token) {
+        if (!enabled) {
+            return VerifiedToken.from(jwtTokenVerifier.verify(token));
+        }
+
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            // 만료 직후 아직 제거되지 않은 항목은 다시 검증하여 ExpiredJwtException 을 발생시킴
+            cache.invalidate(key);
+        }
+
+        VerifiedToken verified = VerifiedToken.from(jwtTokenVerifier.verify(token));
+        cache.put(key, verified);
+        return verified;
+    }
+
+    /**
+     * 검증 결과를 모두 버립니다. (JWKS 공개 키가 바뀐 경우)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 서명 키가 바뀌면 이전 키로 검증된 결과를 모두 버립니다.
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (JwtTokenVerifier.isKeyProperty(event.getKeys())) {
+            cache.invalidateAll();
+            log.info("[게이트웨이 토큰 캐시] 검증 키 설정 변경으로 캐시 초기화");
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.msa.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+/**
+ * Cache-Control 헤더에서 게이트웨이 캐시가 참고하는 지시어만 추출한 결과
+ *
+ * @param noStore       no-store
+ * @param noCache       no-cache
+ * @param privateOnly   private (특정 사용자 전용 응답)
+ * @param maxAgeSeconds s-maxage 또는 max-age 값 (없으면 -1, 공유 캐시이므로 s-maxage 우선)
+ */
+public record CacheControlDirectives(boolean noStore, boolean noCache, boolean privateOnly, long maxAgeSeconds) {
+
+    private static final CacheControlDirectives NONE = new CacheControlDirectives(false, false, false, -1);
+
+    public static CacheControlDirectives parse(HttpHeaders headers) {
+        List<String> values = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (values == null || values.isEmpty()) {
+            return NONE;
+        }
+
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean privateOnly = false;
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String value : values) {
+            int start = 0;
+            while (start < value.length()) {
+                int end = value.indexOf(',', start);
+                if (end < 0) {
+                    end = value.length();
+                }
+                String directive = value.substring(start, end).trim().toLowerCase();
+                start = end + 1;
+
+                if (directive.equals("no-store")) {
+                    noStore = true;
+                } else if (directive.startsWith("no-cache")) {
+                    noCache = true;
+                } else if (directive.startsWith("private")) {
+                    privateOnly = true;
+                } else if (directive.startsWith("s-maxage=")) {
+                    sharedMaxAge = parseSeconds(directive.substring("s-maxage=".length()));
+                } else if (directive.startsWith("max-age=")) {
+                    maxAge = parseSeconds(directive.substring("max-age=".length()));
+                }
+            }
+        }
+        return new CacheControlDirectives(noStore, noCache, privateOnly, sharedMaxAge >= 0 ? sharedMaxAge : maxAge);
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.replace("\"", "").trim());
+        } catch (NumberFormatException e) {
+            // 잘못된 값은 만료된 것으로 취급 (RFC 9111)
+            return 0;
+        }
+    }
+}
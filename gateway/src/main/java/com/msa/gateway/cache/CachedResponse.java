@@ -0,0 +1,48 @@
+package com.msa.gateway.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이가 저장해 두었다가 다시 내려주는 응답 (상태 코드, 헤더, 본문)
+ *
+ * @param status          응답 상태 코드
+ * @param headers         응답 헤더 (읽기 전용 사본)
+ * @param body            응답 본문
+ * @param expiresAtMillis 만료 시각 (epoch 밀리초)
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long expiresAtMillis) {
+
+    /**
+     * 저장된 응답을 현재 응답에 그대로 씁니다. 본문 배열은 복사하지 않고 감싸서 전송합니다.
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response, String cacheStatus) {
+        response.setStatusCode(status);
+        HttpHeaders responseHeaders = response.getHeaders();
+        headers.forEach((name, values) -> {
+            if (!responseHeaders.containsKey(name)) {
+                responseHeaders.put(name, values);
+            }
+        });
+        responseHeaders.set(ResponseCapture.CACHE_STATUS_HEADER, cacheStatus);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * 메모리 예산 계산용 대략적인 크기(바이트)
+     */
+    int weight() {
+        int headerBytes = 0;
+        for (var entry : headers.headerSet()) {
+            headerBytes += entry.getKey().length();
+            for (String value : entry.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        return body.length + headerBytes + 128;
+    }
+}
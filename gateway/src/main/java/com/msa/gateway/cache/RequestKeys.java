@@ -0,0 +1,46 @@
+package com.msa.gateway.cache;
+
+import com.msa.gateway.filter.JwtAuthenticationFilter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 응답 캐시/요청 병합에 사용하는 요청 키 생성기
+ * 메소드 + RewritePath 적용 후 경로 + 쿼리 문자열 + 인증된 사용자(userId, 역할)로 키를 만들어
+ * 다른 사용자의 응답이 섞이지 않도록 합니다. 사용자 정보는 클라이언트 헤더가 아닌
+ * JwtAuthenticationFilter 가 남긴 exchange 속성에서 읽으므로 헤더 위조로 다른 사용자의 키를 만들 수 없습니다.
+ */
+public final class RequestKeys {
+
+    private static final char SEPARATOR = '\n';
+
+    private RequestKeys() {
+    }
+
+    public static String of(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getRawPath();
+        String query = request.getURI().getRawQuery();
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR);
+        String role = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_ROLE_ATTR);
+
+        StringBuilder key = new StringBuilder(64 + path.length() + (query != null ? query.length() : 0));
+        key.append(request.getMethod().name()).append(SEPARATOR)
+                .append(path).append(SEPARATOR);
+        if (query != null) {
+            key.append(query);
+        }
+        key.append(SEPARATOR);
+        if (userId != null) {
+            key.append(userId).append(SEPARATOR).append(role != null ? role : "");
+        }
+        return key.toString();
+    }
+
+    /**
+     * 인증된 사용자 요청인지 여부 (사용자별 키인지 여부)
+     */
+    public static boolean isAuthenticated(ServerWebExchange exchange) {
+        return exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR) != null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.msa.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 게이트웨이 응답 캐시 저장소
+ * 모든 라우트가 하나의 메모리 예산(gateway.response-cache.max-size)을 공유하며, 본문 + 헤더 크기를 가중치로
+ * 예산을 넘으면 크기 기반으로 제거됩니다. 각 항목은 저장 시 정해진 만료 시각에 제거됩니다.
+ * 적중/실패 지표는 actuator metrics 의 cache.* (cache=gateway.response) 로 노출됩니다.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private static final String CACHE_NAME = "gateway.response";
+
+    private final Cache<String, CachedResponse> cache;
+    private final long maxEntryBytes;
+
+    public ResponseCacheStore(MeterRegistry meterRegistry,
+                              @Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize,
+                              @Value("${gateway.response-cache.max-entry-size:1MB}") DataSize maxEntrySize) {
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.weight())
+                .expireAfter(Expiry.creating((String key, CachedResponse value) ->
+                        Duration.ofMillis(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 만료되지 않은 캐시 응답을 찾습니다. 없으면 null
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.invalidate(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 응답을 저장합니다. 항목 하나의 크기 제한을 넘는 응답은 저장하지 않습니다.
+     */
+    public void put(String key, CachedResponse response) {
+        if (response.body().length <= maxEntryBytes) {
+            cache.put(key, response);
+        }
+    }
+
+    /**
+     * 항목 하나의 최대 크기(바이트)
+     */
+    public long maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
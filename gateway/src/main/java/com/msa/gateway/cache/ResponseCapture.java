@@ -0,0 +1,195 @@
+package com.msa.gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 하위 서비스 응답을 클라이언트로 보내면서 동시에 본문을 복사해 두었다가 CachedResponse 로 넘겨주는 응답 데코레이터
+ * 본문은 모으지 않고 받는 즉시 그대로 전송하며, 복사본이 리스너의 최대 크기를 넘으면 복사를 멈추고 나머지를 그대로 흘려보냅니다.
+ * 한 요청에 여러 필터(ResponseCacheFilter, RequestCoalescingFilter)가 리스너를 등록해도 데코레이터는 하나만 두어
+ * 본문을 한 번만 복사합니다.
+ * 스트리밍 응답(writeAndFlushWith)은 복사하지 않고 그대로 통과시킵니다.
+ */
+public class ResponseCapture extends ServerHttpResponseDecorator {
+
+    public static final String CACHE_STATUS_HEADER = "X-Gateway-Cache";
+
+    private static final String ATTRIBUTE = ResponseCapture.class.getName();
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean notified = new AtomicBoolean();
+
+    private ResponseCapture(ServerHttpResponse delegate) {
+        super(delegate);
+    }
+
+    /**
+     * 응답 본문 수집 리스너를 등록합니다.
+     * 앞선 필터가 이미 수집 중이면 같은 데코레이터에 리스너만 추가합니다.
+     *
+     * @param exchange 현재 요청
+     * @param maxBytes 이 리스너가 받을 최대 본문 크기 (넘으면 onSkipped 호출)
+     * @param listener 수집 결과를 받을 리스너
+     * @return 수집 데코레이터가 적용된 교환 (이미 적용되어 있으면 그대로)
+     */
+    public static ServerWebExchange capture(ServerWebExchange exchange, long maxBytes, Listener listener) {
+        ResponseCapture existing = exchange.getAttribute(ATTRIBUTE);
+        if (existing != null) {
+            existing.registrations.add(new Registration(maxBytes, listener));
+            return exchange;
+        }
+        ResponseCapture capture = new ResponseCapture(exchange.getResponse());
+        capture.registrations.add(new Registration(maxBytes, listener));
+        ServerWebExchange captured = exchange.mutate().response(capture).build();
+        captured.getAttributes().put(ATTRIBUTE, capture);
+        return captured;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long limit = 0;
+        for (Registration registration : registrations) {
+            limit = Math.max(limit, registration.maxBytes());
+        }
+        long declaredLength = getHeaders().getContentLength();
+        if (declaredLength > limit) {
+            skipAll();
+            return super.writeWith(body);
+        }
+
+        Accumulator accumulator = new Accumulator(limit, declaredLength);
+        return super.writeWith(Flux.from(body)
+                .doOnNext(buffer -> {
+                    if (!accumulator.append(buffer)) {
+                        // 최대 크기를 넘으면 기다리는 리스너를 바로 풀어주고 나머지는 복사 없이 전송
+                        skipAll();
+                    }
+                })
+                .doOnComplete(() -> {
+                    if (!accumulator.overflowed()) {
+                        captured(accumulator.toByteArray());
+                    }
+                }));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        skipAll();
+        return super.writeAndFlushWith(body);
+    }
+
+    private void captured(byte[] body) {
+        if (!notified.compareAndSet(false, true)) {
+            return;
+        }
+        ResponseSnapshot snapshot = new ResponseSnapshot(getStatusCode(), getHeaders(), body);
+        for (Registration registration : registrations) {
+            if (body.length <= registration.maxBytes()) {
+                registration.listener().onCaptured(snapshot);
+            } else {
+                registration.listener().onSkipped();
+            }
+        }
+    }
+
+    private void skipAll() {
+        if (!notified.compareAndSet(false, true)) {
+            return;
+        }
+        for (Registration registration : registrations) {
+            registration.listener().onSkipped();
+        }
+    }
+
+    /**
+     * 응답 본문 수집 결과를 받는 리스너
+     */
+    public interface Listener {
+
+        /**
+         * 본문이 모두 복사되었을 때 호출됩니다.
+         */
+        void onCaptured(ResponseSnapshot snapshot);
+
+        /**
+         * 본문이 최대 크기를 넘었거나 스트리밍 응답이어서 복사하지 않았을 때 호출됩니다.
+         */
+        default void onSkipped() {
+        }
+    }
+
+    private record Registration(long maxBytes, Listener listener) {
+    }
+
+    /**
+     * 전송되는 본문 버퍼를 최대 크기까지 복사하는 누적기 (한 응답의 writeWith 안에서만 사용)
+     */
+    private static final class Accumulator {
+        private final long limit;
+        private byte[] data;
+        private int size;
+        private boolean overflowed;
+
+        private Accumulator(long limit, long declaredLength) {
+            this.limit = limit;
+            this.data = new byte[(int) (declaredLength >= 0 ? declaredLength : Math.min(limit, INITIAL_CAPACITY))];
+        }
+
+        /**
+         * @return 최대 크기 안에서 복사했으면 true
+         */
+        private boolean append(DataBuffer buffer) {
+            if (overflowed) {
+                return true;
+            }
+            int length = buffer.readableByteCount();
+            if (size + (long) length > limit) {
+                overflowed = true;
+                data = null;
+                return false;
+            }
+            if (size + length > data.length) {
+                data = Arrays.copyOf(data, (int) Math.min(limit, Math.max(size + length, (long) data.length * 2)));
+            }
+            // 읽기 위치를 옮기지 않고 복사하여 전송될 버퍼는 그대로 둠
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(data), size, length);
+            size += length;
+            return true;
+        }
+
+        private boolean overflowed() {
+            return overflowed;
+        }
+
+        private byte[] toByteArray() {
+            return size == data.length ? data : Arrays.copyOf(data, size);
+        }
+    }
+
+    /**
+     * 전송된 응답 상태
+     */
+    public record ResponseSnapshot(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+        public CachedResponse toCachedResponse(long expiresAtMillis) {
+            HttpHeaders copy = new HttpHeaders();
+            copy.putAll(headers);
+            copy.remove(CACHE_STATUS_HEADER);
+            return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(copy), body, expiresAtMillis);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.msa.gateway.error;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게이트웨이 거부 응답 작성기
+ * 거부 사유(상태 코드 + 메시지)별 JSON 본문의 앞/뒤 부분을 기동 시 UTF-8 로 미리 인코딩해 두고,
+ * 요청마다 이스케이프한 경로만 끼워 넣어 하나의 DataBuffer 로 씁니다.
+ * 거부 로그는 사유별로 초당 건수를 제한하며, 전체 건수는 gateway.auth.rejections 카운터로 집계합니다.
+ */
+@Slf4j
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] UNICODE_ESCAPE_PREFIX = "\\u00".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<RejectReason, Template> templates = new EnumMap<>(RejectReason.class);
+
+    public ErrorResponseWriter(MeterRegistry meterRegistry,
+                               @Value("${gateway.auth.rejection-log.permits-per-second:10}") int permitsPerSecond) {
+        for (RejectReason reason : RejectReason.values()) {
+            templates.put(reason, new Template(reason, meterRegistry, permitsPerSecond));
+        }
+    }
+
+    /**
+     * 거부 응답을 작성합니다.
+     *
+     * @param exchange 현재 요청
+     * @param reason   거부 사유
+     * @param detail   로그에만 남길 상세 정보 (응답 본문에는 포함하지 않음, null 가능)
+     */
+    public Mono<Void> write(ServerWebExchange exchange, RejectReason reason, String detail) {
+        return write(exchange, reason, exchange.getRequest().getPath().value(), detail);
+    }
+
+    /**
+     * 응답 본문의 path 를 지정하여 거부 응답을 작성합니다. (forward 된 fallback 요청에서 원래 경로를 남길 때 사용)
+     *
+     * @param exchange 현재 요청
+     * @param reason   거부 사유
+     * @param path     응답 본문과 로그에 남길 경로
+     * @param detail   로그에만 남길 상세 정보 (응답 본문에는 포함하지 않음, null 가능)
+     */
+    public Mono<Void> write(ServerWebExchange exchange, RejectReason reason, String path, String detail) {
+        Template template = templates.get(reason);
+
+        template.counter.increment();
+        long suppressed = template.logLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("[게이트웨이 필터] 접근 거부: {} - 경로: {}{}{}", reason.getMessage(), path,
+                    detail != null ? " - " + detail : "",
+                    suppressed > 0 ? " (직전 구간 " + suppressed + "건 생략)" : "");
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(reason.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        DataBuffer buffer = response.bufferFactory()
+                .allocateBuffer(template.prefix.length + path.length() + template.suffix.length);
+        buffer.write(template.prefix);
+        writeEscaped(buffer, path);
+        buffer.write(template.suffix);
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * JSON 문자열 규칙에 맞게 경로를 이스케이프하여 씁니다.
+     * 요청 경로는 인코딩된 원본(ASCII)이므로 대부분 문자 하나가 바이트 하나로 그대로 기록됩니다.
+     */
+    private static void writeEscaped(DataBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.write((byte) '\\');
+                buffer.write((byte) c);
+            } else if (c < 0x20) {
+                buffer.write(UNICODE_ESCAPE_PREFIX);
+                buffer.write(HEX[c >> 4]);
+                buffer.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                buffer.write((byte) c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 서로게이트 쌍은 한 글자로 인코딩 (따로 인코딩하면 '?' 로 바뀜)
+                buffer.write(value.substring(i, i + 2), StandardCharsets.UTF_8);
+                i++;
+            } else {
+                buffer.write(String.valueOf(c), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static final class Template {
+        private final byte[] prefix;
+        private final byte[] suffix;
+        private final Counter counter;
+        private final RejectionLogLimiter logLimiter;
+
+        private Template(RejectReason reason, MeterRegistry meterRegistry, int permitsPerSecond) {
+            this.prefix = ("{\"error\":\"" + reason.getMessage() + "\", \"path\":\"").getBytes(StandardCharsets.UTF_8);
+            this.suffix = ("\", \"status\":" + reason.getStatus().value() + "}").getBytes(StandardCharsets.UTF_8);
+            this.counter = Counter.builder("gateway.auth.rejections")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry);
+            this.logLimiter = new RejectionLogLimiter(permitsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.msa.gateway.error;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 게이트웨이 필터의 요청 거부 사유 (하위 서비스 장애 시 fallback 사유 포함)
+ * 사유별 응답 본문은 ErrorResponseWriter 가 기동 시 미리 인코딩해 둡니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum RejectReason {
+
+    MISSING_TOKEN(HttpStatus.UNAUTHORIZED, "인증 토큰이 없습니다"),
+    MALFORMED_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 형식입니다"),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 토큰입니다"),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다"),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "폐기된 토큰입니다"),
+    MISSING_USER_ID(HttpStatus.FORBIDDEN, "userId 클레임이 없습니다"),
+    CLAIM_EXTRACTION_FAILED(HttpStatus.FORBIDDEN, "사용자 정보 추출 오류"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청 한도를 초과했습니다"),
+    CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "서비스가 일시적으로 차단되었습니다"),
+    UPSTREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "서비스 동시 요청 한도를 초과했습니다"),
+    UPSTREAM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "서비스 응답 시간이 초과되었습니다"),
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "서비스를 사용할 수 없습니다");
+
+    private final HttpStatus status;
+    private final String message;
+}
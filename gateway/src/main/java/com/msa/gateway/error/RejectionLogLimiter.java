@@ -0,0 +1,40 @@
+package com.msa.gateway.error;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거부 로그 샘플링기
+ * 1초 구간마다 최대 permitsPerSecond 건만 로그를 허용하고 나머지는 건수만 집계합니다.
+ * 자격 증명 대입 공격처럼 거부가 폭증해도 로그 어펜더가 포화되지 않도록 합니다.
+ */
+class RejectionLogLimiter {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong used = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    RejectionLogLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * 로그를 남겨도 되는지 확인합니다.
+     *
+     * @return 허용 시 직전 구간에서 생략된 건수(0 이상), 허용되지 않으면 -1
+     */
+    long tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permitsPerSecond) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
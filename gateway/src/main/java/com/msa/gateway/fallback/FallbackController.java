@@ -0,0 +1,60 @@
+package com.msa.gateway.fallback;
+
+import com.msa.gateway.error.ErrorResponseWriter;
+import com.msa.gateway.error.RejectReason;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서킷 브레이커 fallback 엔드포인트
+ * CircuitBreaker 필터가 forward:/fallback/{service} 로 넘긴 요청에 대해 하위 서비스를 다시 호출하지 않고,
+ * 실패 원인(차단, 동시 요청 초과, 시간 초과, 연결 실패)별로 미리 인코딩된 본문으로 즉시 응답합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class FallbackController {
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @RequestMapping("/fallback/{service}")
+    public Mono<Void> fallback(@PathVariable String service, ServerWebExchange exchange) {
+        Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+        return errorResponseWriter.write(exchange, reasonOf(cause), originalPath(exchange),
+                service + (cause != null ? " - " + cause.getClass().getSimpleName() : ""));
+    }
+
+    private static RejectReason reasonOf(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return RejectReason.CIRCUIT_OPEN;
+        }
+        if (cause instanceof BulkheadFullException) {
+            return RejectReason.UPSTREAM_BUSY;
+        }
+        if (cause instanceof TimeoutException) {
+            return RejectReason.UPSTREAM_TIMEOUT;
+        }
+        return RejectReason.UPSTREAM_UNAVAILABLE;
+    }
+
+    /**
+     * forward 전 클라이언트가 요청한 경로 (없으면 현재 경로)
+     */
+    private static String originalPath(ServerWebExchange exchange) {
+        Set<URI> originalUris = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+        if (originalUris != null && !originalUris.isEmpty()) {
+            return originalUris.iterator().next().getRawPath();
+        }
+        return exchange.getRequest().getPath().value();
+    }
+}
@@ -0,0 +1,191 @@
+package com.msa.gateway.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.util.MultiValueMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 인증된 사용자 정보 헤더(X-Auth-*)를 원본 요청 헤더 위에 덧씌우는 요청 데코레이터
+ * request.mutate().header(...) 는 호출할 때마다 전체 헤더 맵을 복사하므로,
+ * 원본 헤더는 그대로 참조하고 지정한 헤더만 한 번에 덮어쓰는 읽기 전용 뷰를 제공합니다.
+ * 클라이언트가 같은 이름의 헤더를 보냈더라도 덮어쓴 값만 노출됩니다.
+ */
+class IdentityHeadersRequestDecorator extends ServerHttpRequestDecorator {
+
+    private final HttpHeaders headers;
+
+    /**
+     * @param delegate 원본 요청
+     * @param names    덮어쓸 헤더 이름
+     * @param values   덮어쓸 헤더 값 (null 이면 해당 헤더를 제거)
+     */
+    IdentityHeadersRequestDecorator(ServerHttpRequest delegate, String[] names, String[] values) {
+        super(delegate);
+        this.headers = HttpHeaders.readOnlyHttpHeaders(
+                new OverlayHeaders(delegate.getHeaders(), names, values));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * 원본 헤더를 복사하지 않고 일부 헤더만 덮어쓰는 MultiValueMap 뷰
+     */
+    private static final class OverlayHeaders extends AbstractMap<String, List<String>>
+            implements MultiValueMap<String, String> {
+
+        private final HttpHeaders delegate;
+        private final String[] names;
+        private final List<String>[] values;
+
+        @SuppressWarnings("unchecked")
+        private OverlayHeaders(HttpHeaders delegate, String[] names, String[] values) {
+            this.delegate = delegate;
+            this.names = names;
+            this.values = (List<String>[]) new List<?>[values.length];
+            for (int i = 0; i < values.length; i++) {
+                this.values[i] = values[i] != null ? List.of(values[i]) : null;
+            }
+        }
+
+        private int indexOf(Object key) {
+            if (key instanceof String name) {
+                for (int i = 0; i < names.length; i++) {
+                    if (names[i].equalsIgnoreCase(name)) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public List<String> get(Object key) {
+            int index = indexOf(key);
+            return index >= 0 ? values[index] : delegate.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int index = indexOf(key);
+            return index >= 0 ? values[index] != null : delegate.containsKey(key);
+        }
+
+        @Override
+        public String getFirst(String key) {
+            List<String> list = get(key);
+            return list != null && !list.isEmpty() ? list.get(0) : null;
+        }
+
+        @Override
+        public Set<Entry<String, List<String>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, List<String>>> iterator() {
+                    return new OverlayIterator();
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (String name : delegate.keySet()) {
+                        if (indexOf(name) < 0) {
+                            size++;
+                        }
+                    }
+                    for (List<String> value : values) {
+                        if (value != null) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public Map<String, String> toSingleValueMap() {
+            Map<String, String> map = new LinkedHashMap<>();
+            forEach((name, list) -> map.put(name, list.isEmpty() ? null : list.get(0)));
+            return map;
+        }
+
+        @Override
+        public void add(String key, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(String key, List<? extends String> values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(MultiValueMap<String, String> values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(String key, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setAll(Map<String, String> values) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * 원본 헤더 중 덮어쓰지 않은 항목을 먼저, 덮어쓴 항목을 나중에 순회합니다.
+         */
+        private final class OverlayIterator implements Iterator<Entry<String, List<String>>> {
+
+            private final Iterator<Entry<String, List<String>>> delegateIterator = delegate.headerSet().iterator();
+            private int overlayIndex;
+            private Entry<String, List<String>> next = advance();
+
+            private Entry<String, List<String>> advance() {
+                while (delegateIterator.hasNext()) {
+                    Entry<String, List<String>> entry = delegateIterator.next();
+                    if (indexOf(entry.getKey()) < 0) {
+                        return entry;
+                    }
+                }
+                while (overlayIndex < names.length) {
+                    int index = overlayIndex++;
+                    if (values[index] != null) {
+                        return new SimpleImmutableEntry<>(names[index], values[index]);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Entry<String, List<String>> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Entry<String, List<String>> current = next;
+                next = advance();
+                return current;
+            }
+        }
+    }
+}
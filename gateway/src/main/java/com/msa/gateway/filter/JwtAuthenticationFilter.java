@@ -1,28 +1,22 @@
 package com.msa.gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.msa.gateway.auth.IdentityHeaderSigner;
+import com.msa.gateway.auth.PublicPathMatcher;
+import com.msa.gateway.auth.TokenRevocationChecker;
+import com.msa.gateway.auth.VerifiedToken;
+import com.msa.gateway.auth.VerifiedTokenCache;
+import com.msa.gateway.error.ErrorResponseWriter;
+import com.msa.gateway.error.RejectReason;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.util.Date;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Component
@@ -30,174 +24,127 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String TOKEN_PREFIX = "Bearer ";
-    
-    @Value("${jwt.secret}")
-    private String secret;
 
-    public JwtAuthenticationFilter() {
+    private static final String[] IDENTITY_HEADER_NAMES = {"X-Auth-UserId", "X-Auth-Username", "X-Auth-Role",
+            IdentityHeaderSigner.EXPIRES_HEADER, IdentityHeaderSigner.TOKEN_ID_HEADER, IdentityHeaderSigner.SIGNATURE_HEADER};
+
+    /**
+     * 검증된 토큰의 userId 를 담는 exchange 속성 (뒤따르는 필터는 클라이언트가 보낸 헤더 대신 이 값을 사용)
+     */
+    public static final String AUTHENTICATED_USER_ID_ATTR = JwtAuthenticationFilter.class.getName() + ".userId";
+
+    /**
+     * 검증된 토큰의 역할(X-Auth-Role 값)을 담는 exchange 속성
+     */
+    public static final String AUTHENTICATED_ROLE_ATTR = JwtAuthenticationFilter.class.getName() + ".role";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PublicPathMatcher publicPathMatcher;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final IdentityHeaderSigner identityHeaderSigner;
+    private final TokenRevocationChecker tokenRevocationChecker;
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   PublicPathMatcher publicPathMatcher,
+                                   ErrorResponseWriter errorResponseWriter,
+                                   IdentityHeaderSigner identityHeaderSigner,
+                                   TokenRevocationChecker tokenRevocationChecker) {
         super(Config.class);
+        this.identityHeaderSigner = identityHeaderSigner;
+        this.tokenRevocationChecker = tokenRevocationChecker;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.publicPathMatcher = publicPathMatcher;
+        this.errorResponseWriter = errorResponseWriter;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         return (exchange, chain) -> {
             ServerHttpRequest request = exchange.getRequest();
-            String path = request.getPath().toString();
             
             // 인증이 필요 없는 공개 경로 확인
-            if (isPublicPath(path, exchange)) {
+            if (publicPathMatcher.matches(request)) {
                 return chain.filter(exchange);
             }
             
             // 헤더에서 토큰 추출
             List<String> authHeaders = request.getHeaders().get(AUTH_HEADER);
             if (authHeaders == null || authHeaders.isEmpty()) {
-                log.warn("[게이트웨이 필터] 인증 토큰 없음: {}", path);
-                return onError(exchange, "인증 토큰이 없습니다", HttpStatus.UNAUTHORIZED);
+                return errorResponseWriter.write(exchange, RejectReason.MISSING_TOKEN, null);
             }
             
             String token = authHeaders.get(0);
             if (!token.startsWith(TOKEN_PREFIX)) {
-                log.warn("[게이트웨이 필터] 유효하지 않은 토큰 형식: {}", path);
-                return onError(exchange, "유효하지 않은 토큰 형식입니다", HttpStatus.UNAUTHORIZED);
+                return errorResponseWriter.write(exchange, RejectReason.MALFORMED_TOKEN, null);
             }
             
             token = token.substring(TOKEN_PREFIX.length());
             
             // 토큰이 중복되어 있는지 확인
-            if (token.contains(".") && token.split("\\.").length > 3) {
-                // JWT는 헤더.페이로드.서명 형태로 구성되어 있으므로 첫 번째 토큰만 추출
-                String[] parts = token.split("\\.");
-                if (parts.length >= 3) {
-                    token = parts[0] + "." + parts[1] + "." + parts[2];
-                }
-            }
+            // JWT는 헤더.페이로드.서명 형태로 구성되어 있으므로 첫 번째 토큰만 추출
+            token = firstToken(token);
             
-            // 토큰 검증
+            // 토큰 검증 및 사용자 정보 추출 (캐시 적중 시 서명 검증 생략)
+            VerifiedToken verified;
             try {
-                if (!isValidToken(token)) {
-                    log.warn("[게이트웨이 필터] 유효하지 않은 토큰: {}", path);
-                    return onError(exchange, "유효하지 않은 토큰입니다", HttpStatus.UNAUTHORIZED);
-                }
-                log.info("[게이트웨이 필터] 토큰 검증 성공: {}", path);
+                verified = verifiedTokenCache.resolve(token);
+                log.debug("[게이트웨이 필터] 토큰 검증 성공: {}", request.getPath());
+            } catch (ExpiredJwtException e) {
+                return errorResponseWriter.write(exchange, RejectReason.EXPIRED_TOKEN, null);
             } catch (Exception e) {
-                log.error("[게이트웨이 필터] 토큰 검증 오류: {} - {}", path, e.getMessage());
-                return onError(exchange, "토큰 검증 오류: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
+                return errorResponseWriter.write(exchange, RejectReason.INVALID_TOKEN, e.getMessage());
             }
             
-            // 토큰에서 사용자 정보 추출
             try {
-                Claims claims = extractClaims(token);
-                
                 // 요청에 사용자 정보 추가
-                String userId = claims.get("userId", String.class);
-                String username = claims.getSubject();
-                String authorities = claims.get("authorities", String.class);
+                String userId = verified.userId();
+                String username = verified.subject();
+                String authorities = verified.authorities();
                 
                 if (userId == null) {
-                    log.warn("[게이트웨이 필터] userId 클레임이 없습니다: {}", path);
-                    return onError(exchange, "userId 클레임이 없습니다", HttpStatus.FORBIDDEN);
+                    return errorResponseWriter.write(exchange, RejectReason.MISSING_USER_ID, null);
                 }
                 
                 // 권한 정보 디버깅
-                log.info("[게이트웨이 필터] 추출된 권한 정보: {}", authorities);
+                log.debug("[게이트웨이 필터] 추출된 권한 정보: {}", authorities);
                 
-                // 토큰의 authorities 클레임이 "ROLE_USER"인 경우 "USER"로 변환
-                String role = authorities;
-                if ("ROLE_USER".equals(authorities)) {
-                    role = "USER";
-                } else if ("ROLE_ADMIN".equals(authorities)) {
-                    role = "ADMIN";
-                } else if ("ROLE_SUPER_ADMIN".equals(authorities)) {
-                    role = "SUPER_ADMIN";
+                // 토큰의 authorities 클레임(ROLE_USER 등)은 검증 시 USER 등으로 변환되어 있음
+                // 서명 헤더는 하위 서비스가 JWT 를 다시 디코딩하지 않고 헤더만 신뢰하는 데 사용 (클라이언트가 보낸 값은 덮어씀)
+                // 토큰 exp/jti 도 서명에 포함하여 토큰이 만료되면 서명된 헤더도 함께 만료됨
+                String expires = Long.toString(verified.expiresAtMillis() / 1000);
+                String signature = identityHeaderSigner.sign(userId, username, verified.role(), expires, verified.tokenId());
+                ServerHttpRequest enrichedRequest = new IdentityHeadersRequestDecorator(request,
+                        IDENTITY_HEADER_NAMES,
+                        new String[]{userId, username, verified.role(), expires, verified.tokenId(), signature});
+                exchange.getAttributes().put(AUTHENTICATED_USER_ID_ATTR, userId);
+                if (verified.role() != null) {
+                    exchange.getAttributes().put(AUTHENTICATED_ROLE_ATTR, verified.role());
                 }
                 
-                ServerHttpRequest enrichedRequest = request.mutate()
-                    .header("X-Auth-UserId", userId)
-                    .header("X-Auth-Username", username)
-                    .header("X-Auth-Role", role) // 변환된 권한 정보 추가
-                    .build();
-                
-                // 검증 성공 시 요청 전달
-                return chain.filter(exchange.mutate().request(enrichedRequest).build());
+                // 검증 성공 시 요청 전달 (폐기 목록 필터 양성인 경우에만 Redis 로 확정)
+                ServerWebExchange enrichedExchange = exchange.mutate().request(enrichedRequest).build();
+                if (!tokenRevocationChecker.mightBeRevoked(verified.tokenId())) {
+                    return chain.filter(enrichedExchange);
+                }
+                return tokenRevocationChecker.isRevoked(verified.tokenId())
+                        .flatMap(revoked -> revoked
+                                ? errorResponseWriter.write(exchange, RejectReason.REVOKED_TOKEN, null)
+                                : chain.filter(enrichedExchange));
             } catch (Exception e) {
-                log.error("[게이트웨이 필터] 사용자 정보 추출 오류: {}", e.getMessage());
-                return onError(exchange, "사용자 정보 추출 오류", HttpStatus.FORBIDDEN);
+                return errorResponseWriter.write(exchange, RejectReason.CLAIM_EXTRACTION_FAILED, e.getMessage());
             }
         };
     }
 
-    private boolean isPublicPath(String path, ServerWebExchange exchange) {
-        // 기본 공개 경로 확인
-        if (path.contains("/api/auth/") ||
-            path.contains("/api/public/") ||
-            path.contains("/actuator/")) {
-            return true;
-        }
-        
-        // 특정 경로에 대해 HTTP 메소드 확인
-        ServerHttpRequest request = exchange.getRequest();
-        HttpMethod method = request.getMethod();
-        
-        // member-service에 대해 GET과 POST 메소드 허용
-        if (path.equals("/api/members/") && HttpMethod.POST.equals(method)) return true;
-
-        return false;
-    }
-
-    private boolean isValidToken(String token) {
-        try {
-            Claims claims = extractClaims(token);
-            
-            // 토큰 만료 확인
-            Date expiration = claims.getExpiration();
-            Date now = new Date();
-            boolean isValid = !expiration.before(now);
-            
-            if (!isValid) {
-                log.warn("[게이트웨이 필터] 토큰 만료");
-            }
-            
-            return isValid;
-        } catch (Exception e) {
-            log.error("[게이트웨이 필터] 토큰 검증 오류: {}", e.getMessage());
-            return false;
-        }
-    }
-    
-    private Claims extractClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (Exception e) {
-            log.error("[게이트웨이 필터] 토큰 클레임 추출 오류: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
-        ServerHttpRequest request = exchange.getRequest();
-        String path = request.getPath().toString();
-        
-        log.error("[게이트웨이 필터] 접근 거부: {} - 경로: {}", message, path);
-        
-        ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(status);
-        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
-        
-        String errorJson = String.format("{\"error\":\"%s\", \"path\":\"%s\", \"status\":%d}", 
-                message, path, status.value());
-        byte[] bytes = errorJson.getBytes(StandardCharsets.UTF_8);
-        DataBuffer buffer = response.bufferFactory().wrap(bytes);
-        return response.writeWith(Mono.just(buffer));
+    /**
+     * 점(.) 위치를 순회하며 헤더.페이로드.서명 세 부분까지만 잘라냅니다.
+     * 정규식 split 없이 처리하여 요청마다 배열을 만들지 않습니다.
+     */
+    static String firstToken(String token) {
+        int dot = token.indexOf('.');
+        dot = dot < 0 ? -1 : token.indexOf('.', dot + 1);
+        dot = dot < 0 ? -1 : token.indexOf('.', dot + 1);
+        return dot < 0 ? token : token.substring(0, dot);
     }
 
     public static class Config {
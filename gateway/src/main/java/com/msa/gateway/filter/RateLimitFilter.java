@@ -0,0 +1,86 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.error.ErrorResponseWriter;
+import com.msa.gateway.error.RejectReason;
+import com.msa.gateway.ratelimit.StripedTokenBuckets;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * 사용자/IP 별 요청 제한 필터
+ * JwtAuthenticationFilter 가 검증한 userId(X-Auth-UserId 값)가 있으면 사용자 기준으로, 없으면(공개 경로) 클라이언트 IP 기준으로
+ * 로컬 토큰 버킷에서 토큰을 소비합니다. 클러스터 전체 한도는 RateLimitSynchronizer 가 Redis 와 배치로 맞춥니다.
+ * 라우트 설정 시 JwtAuthenticationFilter 뒤에 두어야 사용자 기준으로 동작합니다.
+ * 클라이언트 IP 는 로드 밸런서 뒤에서도 실제 주소가 되도록 X-Forwarded-For 에서 구합니다.
+ * 클라이언트가 보낸 값으로 키를 바꾸지 못하도록 gateway.rate-limit.trusted-proxies 개의 신뢰하는 프록시가
+ * 덧붙인 오른쪽 끝부터만 읽으며, 0 이면 헤더를 무시하고 연결 주소를 사용합니다.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final StripedTokenBuckets buckets;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    public RateLimitFilter(StripedTokenBuckets buckets,
+                           ErrorResponseWriter errorResponseWriter,
+                           @Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        super(Config.class);
+        this.buckets = buckets;
+        this.errorResponseWriter = errorResponseWriter;
+        this.remoteAddressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() { };
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "";
+            String key = routeId + ":" + clientKey(exchange);
+
+            if (!buckets.tryAcquire(key, config.getReplenishRate(), config.getBurstCapacity())) {
+                return errorResponseWriter.write(exchange, RejectReason.RATE_LIMITED, key);
+            }
+            return chain.filter(exchange);
+        };
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        // 클라이언트가 임의로 보낸 X-Auth-UserId 헤더로 버킷을 바꾸지 못하도록 exchange 속성을 사용
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = remoteAddressResolver.resolve(exchange);
+        return "ip:" + (remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress() : "unknown");
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // 초당 보충되는 토큰 수
+        private long replenishRate = 50;
+        // 순간 최대 허용 요청 수
+        private long burstCapacity = 100;
+    }
+}
@@ -0,0 +1,121 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.cache.CachedResponse;
+import com.msa.gateway.cache.RequestKeys;
+import com.msa.gateway.cache.ResponseCapture;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동일 GET 요청 병합(single-flight) 필터
+ * 같은 키(메소드 + 재작성된 경로 + 쿼리 + 인증된 사용자)의 요청이 동시에 들어오면 첫 요청만 하위 서비스로 보내고,
+ * 나머지 요청은 그 응답이 모두 모일 때까지 기다렸다가 같은 응답을 그대로 내려받습니다. (X-Gateway-Cache: COALESCED)
+ * 성공(2xx) 응답만 나눠주며, 첫 요청이 오류 응답을 받았거나 취소/실패했거나, 본문이 gateway.coalescing.max-body-size 를
+ * 넘거나 스트리밍 응답이어서 재사용할 수 없으면 기다리던 요청은 각자 하위 서비스를 호출합니다.
+ * ResponseCacheFilter 와 함께 쓸 때는 그 뒤에 두어 캐시 실패 시에만 병합되도록 하며, 본문은 한 번만 복사됩니다.
+ */
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    private static final String COALESCED = "COALESCED";
+
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long maxBodyBytes;
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.coalescing.max-body-size:1MB}") DataSize maxBodySize) {
+        super(Config.class);
+        this.maxBodyBytes = maxBodySize.toBytes();
+        this.leaderCounter = Counter.builder("gateway.coalescing.requests")
+                .tag("role", "leader")
+                .description("하위 서비스로 전달된 요청 수")
+                .register(meterRegistry);
+        this.followerCounter = Counter.builder("gateway.coalescing.requests")
+                .tag("role", "follower")
+                .description("진행 중인 동일 요청의 응답을 재사용한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.in-flight", inFlight, Map::size)
+                .description("병합 대상으로 진행 중인 요청 키 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeys.of(exchange);
+            Sinks.One<CachedResponse> own = Sinks.one();
+            Sinks.One<CachedResponse> existing = inFlight.putIfAbsent(key, own);
+
+            if (existing != null) {
+                followerCounter.increment();
+                return existing.asMono()
+                        .flatMap(response -> response.writeTo(exchange.getResponse(), COALESCED).thenReturn(Boolean.TRUE))
+                        // 재사용할 응답이 없으면 직접 호출
+                        .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(Boolean.TRUE)))
+                        .then();
+            }
+
+            leaderCounter.increment();
+            boolean authenticated = RequestKeys.isAuthenticated(exchange);
+            ServerWebExchange captured = ResponseCapture.capture(exchange, maxBodyBytes, new ResponseCapture.Listener() {
+                @Override
+                public void onCaptured(ResponseCapture.ResponseSnapshot snapshot) {
+                    inFlight.remove(key, own);
+                    if (isShareable(snapshot, authenticated)) {
+                        own.tryEmitValue(snapshot.toCachedResponse(Long.MAX_VALUE));
+                    } else {
+                        own.tryEmitEmpty();
+                    }
+                }
+
+                @Override
+                public void onSkipped() {
+                    // 본문이 크거나 스트리밍 응답이면 끝날 때까지 기다리게 하지 않고 바로 풀어줌
+                    inFlight.remove(key, own);
+                    own.tryEmitEmpty();
+                }
+            });
+            return chain.filter(captured)
+                    .doFinally(signal -> {
+                        // 응답을 넘기지 못하고 끝난 경우(오류, 취소, 스트리밍) 대기 중인 요청을 풀어줌
+                        inFlight.remove(key, own);
+                        own.tryEmitEmpty();
+                    });
+        };
+    }
+
+    /**
+     * 다른 요청에 나눠줄 수 있는 응답인지 확인합니다.
+     * 오류 응답은 일시적일 수 있으므로 나눠주지 않고, 익명 요청의 쿠키는 다른 클라이언트에게 나눠주지 않습니다.
+     */
+    private static boolean isShareable(ResponseCapture.ResponseSnapshot snapshot, boolean authenticated) {
+        if (snapshot.status() == null || !snapshot.status().is2xxSuccessful()) {
+            return false;
+        }
+        return authenticated || !snapshot.headers().containsKey(HttpHeaders.SET_COOKIE);
+    }
+
+    public static class Config {
+        // 필요한 설정이 있다면 여기에 추가
+    }
+}
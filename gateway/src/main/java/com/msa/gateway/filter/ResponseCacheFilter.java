@@ -0,0 +1,114 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.cache.CacheControlDirectives;
+import com.msa.gateway.cache.CachedResponse;
+import com.msa.gateway.cache.RequestKeys;
+import com.msa.gateway.cache.ResponseCacheStore;
+import com.msa.gateway.cache.ResponseCapture;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 멱등 GET 응답 캐시 필터 (라우트별로 명시한 경우에만 동작)
+ * 메소드 + 재작성된 경로 + 쿼리 + 인증된 사용자(userId, 역할)를 키로 200 응답을 저장하고,
+ * 적중 시 하위 서비스를 호출하지 않고 저장된 응답을 바로 내려줍니다. (X-Gateway-Cache: HIT/MISS)
+ * Cache-Control 을 따릅니다.
+ * - 요청: no-store 면 캐시를 사용하지 않고, no-cache/max-age=0 이면 조회만 건너뛰고 새 응답을 저장
+ * - 응답: no-store/no-cache 면 저장하지 않고, max-age(s-maxage) 가 있으면 라우트 TTL 과 비교해 짧은 쪽 사용,
+ *   private 응답은 사용자별 키(인증된 요청)일 때만 저장
+ * 키에 요청 헤더를 넣지 않으므로 Vary 헤더가 있는 응답(Vary: * 포함)은 저장하지 않습니다.
+ * 사용자별 키를 만들기 위해 라우트 설정 시 JwtAuthenticationFilter 뒤에 두어야 합니다.
+ * gateway.response-cache.max-entry-size 를 넘는 응답은 복사하지 않고 그대로 흘려보냅니다.
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String HIT = "HIT";
+    private static final String MISS = "MISS";
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheFilter(ResponseCacheStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlSeconds = config.getTtl().toSeconds();
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            CacheControlDirectives requestDirectives = CacheControlDirectives.parse(exchange.getRequest().getHeaders());
+            if (requestDirectives.noStore()) {
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeys.of(exchange);
+            if (!requestDirectives.noCache() && requestDirectives.maxAgeSeconds() != 0) {
+                CachedResponse cached = store.get(key);
+                if (cached != null) {
+                    log.debug("[응답 캐시] 적중: {}", exchange.getRequest().getPath());
+                    return cached.writeTo(exchange.getResponse(), HIT);
+                }
+            }
+
+            boolean authenticated = RequestKeys.isAuthenticated(exchange);
+            ServerWebExchange captured = ResponseCapture.capture(exchange, store.maxEntryBytes(), snapshot -> {
+                long storeSeconds = storeSeconds(snapshot, ttlSeconds, authenticated);
+                if (storeSeconds > 0) {
+                    store.put(key, snapshot.toCachedResponse(System.currentTimeMillis() + storeSeconds * 1000));
+                }
+            });
+            captured.getResponse().getHeaders().set(ResponseCapture.CACHE_STATUS_HEADER, MISS);
+            return chain.filter(captured);
+        };
+    }
+
+    /**
+     * 응답을 저장할 기간(초)을 계산합니다. 저장하지 않아야 하면 0
+     */
+    private static long storeSeconds(ResponseCapture.ResponseSnapshot snapshot, long ttlSeconds, boolean authenticated) {
+        if (snapshot.status() == null || snapshot.status().value() != HttpStatus.OK.value()) {
+            return 0;
+        }
+        HttpHeaders headers = snapshot.headers();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.VARY)) {
+            return 0;
+        }
+        CacheControlDirectives directives = CacheControlDirectives.parse(headers);
+        if (directives.noStore() || directives.noCache() || (directives.privateOnly() && !authenticated)) {
+            return 0;
+        }
+        return directives.maxAgeSeconds() >= 0 ? Math.min(ttlSeconds, directives.maxAgeSeconds()) : ttlSeconds;
+    }
+
+    /**
+     * 라우트별 캐시 설정 (메모리 예산은 gateway.response-cache.max-size 로 전체 라우트가 공유)
+     */
+    @Getter
+    @Setter
+    public static class Config {
+        // 응답 최대 보관 기간 (하위 서비스의 max-age 가 더 짧으면 그 값 사용)
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
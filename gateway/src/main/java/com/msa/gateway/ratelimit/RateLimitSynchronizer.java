@@ -0,0 +1,114 @@
+package com.msa.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 토큰 버킷과 Redis 간 배치 동기화
+ * 요청마다 Redis 를 호출하지 않고, 주기마다 키별 소비량을 INCRBY 로 한꺼번에 올린 뒤
+ * 고정 윈도우 내 클러스터 전체 사용량이 한도를 넘은 키는 윈도우가 끝날 때까지 로컬에서 차단합니다.
+ * Redis 가 응답하지 않으면 로컬 버킷만으로 동작합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitSynchronizer {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final StripedTokenBuckets buckets;
+    private final ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider;
+    private final boolean redisEnabled;
+    private final Duration syncInterval;
+    private final long windowSeconds;
+    private final Duration idleTimeout;
+
+    private Disposable task;
+
+    public RateLimitSynchronizer(StripedTokenBuckets buckets,
+                                 ObjectProvider<ReactiveStringRedisTemplate> redisTemplateProvider,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${gateway.rate-limit.redis.enabled:false}") boolean redisEnabled,
+                                 @Value("${gateway.rate-limit.redis.sync-interval:1s}") Duration syncInterval,
+                                 @Value("${gateway.rate-limit.redis.window:10s}") Duration window,
+                                 @Value("${gateway.rate-limit.idle-timeout:5m}") Duration idleTimeout) {
+        this.buckets = buckets;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.redisEnabled = redisEnabled;
+        this.syncInterval = syncInterval;
+        this.windowSeconds = Math.max(1, window.toSeconds());
+        this.idleTimeout = idleTimeout;
+        Gauge.builder("gateway.rate-limit.buckets", buckets, StripedTokenBuckets::size)
+                .description("로컬 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        task = Flux.interval(syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> synchronize().onErrorResume(e -> {
+                    log.warn("[요청 제한] Redis 동기화 실패: {}", e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (task != null) {
+            task.dispose();
+        }
+    }
+
+    Mono<Void> synchronize() {
+        buckets.evictIdle(idleTimeout.toNanos());
+
+        ReactiveStringRedisTemplate redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+        if (redisTemplate == null) {
+            // 로컬 전용 모드에서는 소비량만 비움
+            buckets.drainPending((key, consumed) -> { });
+            return Mono.empty();
+        }
+
+        List<PendingUsage> usages = new ArrayList<>();
+        buckets.drainPending((key, consumed) -> usages.add(new PendingUsage(key, consumed)));
+        if (usages.isEmpty()) {
+            return Mono.empty();
+        }
+
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        long window = nowSeconds / windowSeconds;
+        long windowEndNanos = System.nanoTime() + ((window + 1) * windowSeconds - nowSeconds) * 1_000_000_000L;
+
+        return Flux.fromIterable(usages)
+                .flatMap(usage -> {
+                    String redisKey = KEY_PREFIX + usage.key() + ":" + window;
+                    return redisTemplate.opsForValue().increment(redisKey, usage.consumed())
+                            .flatMap(total -> redisTemplate.expire(redisKey, Duration.ofSeconds(windowSeconds * 2))
+                                    .thenReturn(total))
+                            .doOnNext(total -> {
+                                if (total > buckets.limitOf(usage.key(), windowSeconds)) {
+                                    buckets.throttleUntil(usage.key(), windowEndNanos);
+                                }
+                            });
+                })
+                .then();
+    }
+
+    private record PendingUsage(String key, long consumed) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.msa.gateway.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 키(사용자/IP)별 로컬 토큰 버킷 저장소
+ * 버킷마다 락을 두지 않고 고정 개수의 스트라이프 락을 키 해시로 나눠 사용하므로,
+ * 서로 다른 사용자의 요청은 거의 경합하지 않고 락 객체 수도 늘어나지 않습니다.
+ * 버킷 생성/소비/제거는 모두 키의 스트라이프 락 안에서 이루어지므로,
+ * 제거된 버킷에서 토큰이 소비되어 사용량이 동기화되지 않는 일이 없습니다.
+ */
+@Component
+public class StripedTokenBuckets {
+
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public StripedTokenBuckets() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String key, long replenishRate, long burstCapacity) {
+        long now = System.nanoTime();
+        synchronized (lockFor(key)) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = new TokenBucket(replenishRate, burstCapacity, now);
+                buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(now);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 소비된 토큰 수를 키별로 꺼내 전달합니다. (Redis 배치 동기화용)
+     */
+    void drainPending(BiConsumer<String, Long> consumer) {
+        buckets.forEach((key, bucket) -> {
+            long drained;
+            synchronized (lockFor(key)) {
+                drained = bucket.drainPending();
+            }
+            if (drained > 0) {
+                consumer.accept(key, drained);
+            }
+        });
+    }
+
+    /**
+     * 클러스터 전체 사용량이 한도를 넘은 키를 주어진 시각까지 로컬에서 차단합니다.
+     */
+    void throttleUntil(String key, long untilNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.throttledUntilNanos = untilNanos;
+        }
+    }
+
+    long limitOf(String key, long windowSeconds) {
+        TokenBucket bucket = buckets.get(key);
+        return bucket == null ? Long.MAX_VALUE : bucket.replenishRate * windowSeconds + bucket.burstCapacity;
+    }
+
+    /**
+     * 일정 시간 사용되지 않은 버킷을 제거하여 메모리 사용량을 제한합니다.
+     */
+    void evictIdle(long idleNanos) {
+        long now = System.nanoTime();
+        for (String key : buckets.keySet()) {
+            // tryAcquire 와 같은 순서(스트라이프 락 → 맵)로 잠그고, 락 안에서 유휴 여부를 다시 확인한 뒤 제거
+            synchronized (lockFor(key)) {
+                buckets.computeIfPresent(key, (k, bucket) -> bucket.isIdle(now, idleNanos) ? null : bucket);
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private Object lockFor(String key) {
+        int h = key.hashCode();
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
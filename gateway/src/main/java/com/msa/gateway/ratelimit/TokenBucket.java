@@ -0,0 +1,58 @@
+package com.msa.gateway.ratelimit;
+
+/**
+ * 로컬 토큰 버킷
+ * 상태 변경은 StripedTokenBuckets 의 스트라이프 락 안에서만 이루어집니다.
+ * throttledUntilNanos 만 Redis 동기화 스레드가 락 없이 갱신하므로 volatile 로 둡니다.
+ */
+final class TokenBucket {
+
+    final long replenishRate;
+    final long burstCapacity;
+
+    double tokens;
+    long lastRefillNanos;
+    long pendingConsumed;
+    long lastAccessNanos;
+
+    volatile long throttledUntilNanos;
+
+    TokenBucket(long replenishRate, long burstCapacity, long nowNanos) {
+        this.replenishRate = replenishRate;
+        this.burstCapacity = burstCapacity;
+        this.tokens = burstCapacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+        // nanoTime 은 음수일 수 있으므로 0 이 아닌 생성 시각으로 초기화 (차단되지 않은 상태)
+        this.throttledUntilNanos = nowNanos;
+    }
+
+    boolean tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        // nanoTime 값은 넘칠 수 있으므로 직접 비교하지 않고 차이의 부호로 비교
+        if (nowNanos - throttledUntilNanos < 0) {
+            return false;
+        }
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(burstCapacity, tokens + elapsed * replenishRate / 1_000_000_000d);
+            lastRefillNanos = nowNanos;
+        }
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        pendingConsumed++;
+        return true;
+    }
+
+    long drainPending() {
+        long drained = pendingConsumed;
+        pendingConsumed = 0;
+        return drained;
+    }
+
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return pendingConsumed == 0 && nowNanos - lastAccessNanos > idleNanos;
+    }
+}
@@ -0,0 +1,153 @@
+package com.msa.gateway.upstream;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 라우트별 연결 풀 프로필을 적용하는 NettyRoutingFilter
+ * 기본 라우팅 필터를 대체하며, 라우트 metadata 의 upstream-profile 에 해당하는 HttpClient(전용 연결 풀)로 전달합니다.
+ * 프로필이 없는 라우트는 게이트웨이 기본 HttpClient 를 그대로 사용합니다.
+ * 프로필 HttpClient 도 게이트웨이 httpclient 설정(SSL, 헤더 크기, 프록시, 압축 등)을 그대로 적용하고
+ * 연결 풀과 연결 제한 시간만 프로필 값으로 바꿉니다.
+ * 기본 routingFilter 는 설정(global-filter.netty-routing.enabled=false)으로 끄며,
+ * 켜져 있더라도 이 필터가 먼저 실행되어 전달하므로 기본 필터는 이미 라우팅된 요청을 건너뜁니다.
+ * 각 풀은 reactor.netty.connection.provider.* 지표(name=gateway-upstream-{프로필})로
+ * 활성/유휴/대기 연결 수와 연결 획득 대기 시간을 노출합니다.
+ * 프로필 설정은 기동 시 한 번 적용됩니다. (연결 풀 교체는 재기동 필요)
+ */
+@Slf4j
+@Component
+public class ProfiledNettyRoutingFilter extends NettyRoutingFilter {
+
+    public static final String PROFILE_METADATA_KEY = "upstream-profile";
+
+    private static final String PROPERTY_PREFIX = "gateway.upstream.profiles";
+    private static final String POOL_NAME_PREFIX = "gateway-upstream-";
+
+    private final HttpClientProperties properties;
+    private final ServerProperties serverProperties;
+    private final HttpClientSslConfigurer sslConfigurer;
+    private final ObjectProvider<HttpClientCustomizer> customizers;
+    private final Environment environment;
+    private final Map<String, HttpClient> clients = new HashMap<>();
+    private final Map<String, ConnectionProvider> providers = new HashMap<>();
+
+    public ProfiledNettyRoutingFilter(HttpClient httpClient,
+                                      ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+                                      HttpClientProperties properties,
+                                      ServerProperties serverProperties,
+                                      HttpClientSslConfigurer sslConfigurer,
+                                      ObjectProvider<HttpClientCustomizer> customizers,
+                                      Environment environment) {
+        super(httpClient, headersFiltersProvider, properties);
+        this.properties = properties;
+        this.serverProperties = serverProperties;
+        this.sslConfigurer = sslConfigurer;
+        this.customizers = customizers;
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        // 기본 routingFilter(같은 ORDER)보다 먼저 실행
+        return ORDER - 1;
+    }
+
+    @PostConstruct
+    public void init() {
+        Map<String, UpstreamClientProfile> profiles = Binder.get(environment)
+                .bind(PROPERTY_PREFIX, Bindable.mapOf(String.class, UpstreamClientProfile.class))
+                .orElse(Collections.emptyMap());
+
+        profiles.forEach((name, profile) -> {
+            ConnectionProvider provider = ConnectionProvider.builder(POOL_NAME_PREFIX + name)
+                    .maxConnections(profile.getMaxConnections())
+                    .pendingAcquireMaxCount(profile.getPendingAcquireMaxCount())
+                    .pendingAcquireTimeout(profile.getPendingAcquireTimeout())
+                    .maxIdleTime(profile.getMaxIdleTime())
+                    .maxLifeTime(profile.getMaxLifeTime())
+                    .evictInBackground(profile.getEvictionInterval())
+                    .metrics(true)
+                    .build();
+
+            HttpClient client = new ProfileHttpClientFactory(properties, serverProperties, sslConfigurer,
+                    // HttpClientFactory 가 목록을 직접 정렬하므로 변경 가능한 목록으로 전달
+                    customizers.orderedStream().collect(Collectors.toList()), provider).build()
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) profile.getConnectTimeout().toMillis());
+            if (profile.isH2c()) {
+                client = client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+            }
+
+            providers.put(name, provider);
+            clients.put(name, client);
+            log.info("[게이트웨이 연결 풀] 프로필 {} 적용 - 최대 연결 {}, 대기 한도 {}, h2c {}",
+                    name, profile.getMaxConnections(), profile.getPendingAcquireMaxCount(), profile.isH2c());
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        Object profile = route.getMetadata().get(PROFILE_METADATA_KEY);
+        if (profile != null) {
+            HttpClient client = clients.get(profile.toString());
+            if (client != null) {
+                return client;
+            }
+        }
+        return super.getHttpClient(route, exchange);
+    }
+
+    /**
+     * 게이트웨이 기본 HttpClient 와 같은 설정으로 만들되 연결 풀만 프로필 풀을 사용하는 팩토리
+     */
+    private static class ProfileHttpClientFactory extends HttpClientFactory {
+
+        private final ConnectionProvider provider;
+
+        ProfileHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                 HttpClientSslConfigurer sslConfigurer, List<HttpClientCustomizer> customizers,
+                                 ConnectionProvider provider) {
+            super(properties, serverProperties, sslConfigurer, customizers);
+            this.provider = provider;
+        }
+
+        HttpClient build() {
+            return createInstance();
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            return provider;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.msa.gateway.upstream;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * 하위 서비스 호출용 HTTP 클라이언트 프로필 (gateway.upstream.profiles.{이름})
+ * 라우트 metadata 의 upstream-profile 로 지정하며, 프로필마다 별도의 연결 풀을 사용합니다.
+ */
+@Getter
+@Setter
+public class UpstreamClientProfile {
+    // 풀의 최대 연결 수
+    private int maxConnections = 500;
+    // 연결을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+    private int pendingAcquireMaxCount = 1000;
+    // 연결을 기다리는 최대 시간
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    // 유휴 연결 유지 시간 (하위 서비스의 keep-alive 시간보다 짧게)
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    // 연결 최대 수명 (인스턴스 교체 시 연결이 한쪽에 고정되지 않도록)
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    // 유휴/수명 초과 연결을 백그라운드에서 정리하는 주기
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    // 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    // HTTP/2 평문(h2c) 업그레이드 사용 여부 (하위 서비스가 지원하지 않으면 HTTP/1.1 로 동작)
+    private boolean h2c = false;
+}
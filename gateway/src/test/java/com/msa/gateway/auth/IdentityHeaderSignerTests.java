@@ -0,0 +1,49 @@
+package com.msa.gateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityHeaderSignerTests {
+
+	private static final String SECRET = "gateway-identity-header-test-secret";
+
+	@Test
+	void signsHeaderValuesWithHmacSha256() throws Exception {
+		IdentityHeaderSigner signer = new IdentityHeaderSigner(SECRET);
+
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String expected = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(mac.doFinal("1\nuser\nUSER\n1760000060\njti-1".getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(signer.sign("1", "user", "USER", "1760000060", "jti-1")).isEqualTo(expected);
+		// 빈 값은 빈 문자열로 서명
+		assertThat(signer.sign("1", null, "USER", "1760000060", null))
+				.isEqualTo(signer.sign("1", "", "USER", "1760000060", ""));
+	}
+
+	@Test
+	void givesSameSignatureConcurrently() {
+		IdentityHeaderSigner signer = new IdentityHeaderSigner(SECRET);
+		String expected = signer.sign("1", "user", "USER", "1760000060", "jti-1");
+
+		List<String> signatures = IntStream.range(0, 10_000).parallel()
+				.mapToObj(i -> signer.sign("1", "user", "USER", "1760000060", "jti-1"))
+				.toList();
+
+		assertThat(signatures).containsOnly(expected);
+	}
+
+	@Test
+	void doesNotSignWithoutSecret() {
+		assertThat(new IdentityHeaderSigner("").sign("1", "user", "USER", "1760000060", "jti-1")).isNull();
+	}
+}
@@ -0,0 +1,130 @@
+package com.msa.gateway.auth;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenVerifierTests {
+
+	private static final String SECRET = "ce9a4a38b29c53ea18eac9c03d6e55eb246de75f9c584564d246b367f28490fe";
+	private static final String ROTATED_SECRET = "4f1e0d6f3b0a9c2e8d7f6a5b4c3d2e1f0a9b8c7d6e5f4a3b2c1d0e9f8a7b6c5d";
+
+	@Test
+	void verifiesDefaultKeyWithAndWithoutKid() {
+		JwtTokenVerifier verifier = verifier(Map.of("jwt.secret", SECRET));
+
+		assertThat(verifier.verify(hmacToken(SECRET, null)).get("userId")).isEqualTo("7");
+		assertThat(verifier.verify(hmacToken(SECRET, "default")).get("userId")).isEqualTo("7");
+	}
+
+	@Test
+	void verifiesHmacKeyFromJwtKeys() {
+		JwtTokenVerifier verifier = verifier(Map.of(
+				"jwt.secret", SECRET,
+				"jwt.keys[0].kid", "2025-10",
+				"jwt.keys[0].algorithm", "HS256",
+				"jwt.keys[0].secret", ROTATED_SECRET));
+
+		assertThat(verifier.verify(hmacToken(ROTATED_SECRET, "2025-10")).get("userId")).isEqualTo("7");
+		// 다른 kid 의 키로 서명한 토큰은 거부
+		assertThatThrownBy(() -> verifier.verify(hmacToken(SECRET, "2025-10"))).isInstanceOf(SignatureException.class);
+		assertThatThrownBy(() -> verifier.verify(hmacToken(ROTATED_SECRET, "unknown")))
+				.isInstanceOf(SignatureException.class);
+	}
+
+	@Test
+	void verifiesPublicKeyFromJwtKeys() {
+		KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+		JwtTokenVerifier verifier = verifier(Map.of(
+				"jwt.secret", SECRET,
+				"jwt.keys[0].kid", "rsa-1",
+				"jwt.keys[0].algorithm", "RS256",
+				"jwt.keys[0].public-key", Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded())));
+
+		String token = Jwts.builder()
+				.setHeaderParam(JwsHeader.KEY_ID, "rsa-1")
+				.claim("userId", "7")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+				.compact();
+
+		assertThat(verifier.verify(token).get("userId")).isEqualTo("7");
+	}
+
+	@Test
+	void picksUpKeysAddedByRefresh() {
+		StandardEnvironment environment = new StandardEnvironment();
+		Map<String, Object> properties = new HashMap<>(Map.of("jwt.secret", SECRET));
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		JwtTokenVerifier verifier = new JwtTokenVerifier(environment);
+		verifier.init();
+		assertThatThrownBy(() -> verifier.verify(hmacToken(ROTATED_SECRET, "2025-10")))
+				.isInstanceOf(SignatureException.class);
+
+		properties.put("jwt.keys[0].kid", "2025-10");
+		properties.put("jwt.keys[0].secret", ROTATED_SECRET);
+		verifier.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.keys[0].kid", "jwt.keys[0].secret")));
+
+		assertThat(verifier.verify(hmacToken(ROTATED_SECRET, "2025-10")).get("userId")).isEqualTo("7");
+	}
+
+	@Test
+	void rejectsSignedTokenWithoutExpiration() {
+		JwtTokenVerifier verifier = verifier(Map.of("jwt.secret", SECRET));
+		String withoutExp = Jwts.builder()
+				.claim("userId", "7")
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.compact();
+
+		assertThatThrownBy(() -> verifier.verify(withoutExp)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void rejectsAlgorithmMismatch() {
+		JwtTokenVerifier verifier = verifier(Map.of("jwt.secret", SECRET));
+		String hs512 = Jwts.builder()
+				.claim("userId", "7")
+				.signWith(Keys.hmacShaKeyFor((SECRET + SECRET).getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+				.compact();
+
+		assertThatThrownBy(() -> verifier.verify(hs512)).isInstanceOf(SignatureException.class);
+	}
+
+	private static JwtTokenVerifier verifier(Map<String, Object> properties) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		JwtTokenVerifier verifier = new JwtTokenVerifier(environment);
+		verifier.init();
+		return verifier;
+	}
+
+	private static String hmacToken(String secret, String kid) {
+		var builder = Jwts.builder()
+				.claim("userId", "7")
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+		if (kid != null) {
+			builder.setHeaderParam(JwsHeader.KEY_ID, kid);
+		}
+		return builder
+				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
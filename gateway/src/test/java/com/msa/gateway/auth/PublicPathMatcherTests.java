@@ -0,0 +1,95 @@
+package com.msa.gateway.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicPathMatcherTests {
+
+	@Test
+	void matchesPatternsIndexedByFirstSegment() {
+		PublicPathMatcher matcher = matcher(Map.of(
+				"gateway.public-routes[0].pattern", "/api/auth/**",
+				"gateway.public-routes[1].pattern", "/actuator/**"));
+
+		assertThat(matcher.matches(request(HttpMethod.POST, "/api/auth/login"))).isTrue();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/actuator/health"))).isTrue();
+		// 첫 세그먼트가 같아도 패턴이 다르면 거부
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/members/me"))).isFalse();
+		// 첫 세그먼트 접두사만 같은 경로는 다른 세그먼트
+		assertThat(matcher.matches(request(HttpMethod.GET, "/apix/auth/login"))).isFalse();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/"))).isFalse();
+	}
+
+	@Test
+	void matchesWildcardFirstSegment() {
+		PublicPathMatcher matcher = matcher(Map.of(
+				"gateway.public-routes[0].pattern", "/*/public/**",
+				"gateway.public-routes[1].pattern", "/{version}/docs"));
+
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/public/notice"))).isTrue();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/v1/docs"))).isTrue();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/private/notice"))).isFalse();
+	}
+
+	@Test
+	void restrictsConfiguredMethods() {
+		PublicPathMatcher matcher = matcher(Map.of(
+				"gateway.public-routes[0].pattern", "/api/members/",
+				"gateway.public-routes[0].methods[0]", "post"));
+
+		assertThat(matcher.matches(request(HttpMethod.POST, "/api/members/"))).isTrue();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/members/"))).isFalse();
+	}
+
+	@Test
+	void replacesRoutesOnRefresh() {
+		StandardEnvironment environment = new StandardEnvironment();
+		Map<String, Object> properties = new HashMap<>(Map.of("gateway.public-routes[0].pattern", "/api/auth/**"));
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		PublicPathMatcher matcher = new PublicPathMatcher(environment);
+		matcher.init();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/public/notice"))).isFalse();
+
+		properties.put("gateway.public-routes[0].pattern", "/api/public/**");
+		// 다른 설정 변경은 무시
+		matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.rate-limit.idle-timeout")));
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/auth/login"))).isTrue();
+
+		matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.public-routes[0].pattern")));
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/public/notice"))).isTrue();
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/auth/login"))).isFalse();
+	}
+
+	@Test
+	void reloadsFromGivenRoutes() {
+		PublicPathMatcher matcher = matcher(Map.of());
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/auth/login"))).isFalse();
+
+		matcher.reload(List.of(new PublicPathMatcher.PublicRoute("/api/auth/**", List.of())));
+
+		assertThat(matcher.matches(request(HttpMethod.GET, "/api/auth/login"))).isTrue();
+	}
+
+	private static PublicPathMatcher matcher(Map<String, Object> properties) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+		PublicPathMatcher matcher = new PublicPathMatcher(environment);
+		matcher.init();
+		return matcher;
+	}
+
+	private static MockServerHttpRequest request(HttpMethod method, String path) {
+		return MockServerHttpRequest.method(method, path).build();
+	}
+}
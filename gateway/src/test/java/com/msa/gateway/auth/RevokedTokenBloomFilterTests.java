@@ -0,0 +1,60 @@
+package com.msa.gateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenBloomFilterTests {
+
+	@Test
+	void neverReportsInsertedTokenIdAsAbsent() {
+		for (int size : new int[]{1, 2, 63, 64, 1_000, 100_000}) {
+			for (double falsePositiveRate : new double[]{0.5, 0.01, 0.001}) {
+				List<String> tokenIds = tokenIds(size);
+
+				RevokedTokenBloomFilter filter = RevokedTokenBloomFilter.of(tokenIds, falsePositiveRate);
+
+				assertThat(tokenIds).as("size %d, rate %s", size, falsePositiveRate)
+						.allMatch(filter::mightContain);
+			}
+		}
+	}
+
+	@Test
+	void keepsFalsePositivesNearTargetRate() {
+		RevokedTokenBloomFilter filter = RevokedTokenBloomFilter.of(tokenIds(10_000), 0.001);
+
+		long falsePositives = tokenIds(100_000).stream().filter(filter::mightContain).count();
+
+		// 목표 0.1% (100건) 의 몇 배를 넘지 않음
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void handlesSimilarAndUnusualTokenIds() {
+		List<String> tokenIds = List.of("", "a", "b", "jti-1", "jti-2", "jti-10", "회원-토큰", "\u0000", "x".repeat(10_000));
+
+		RevokedTokenBloomFilter filter = RevokedTokenBloomFilter.of(tokenIds, 0.001);
+
+		assertThat(tokenIds).allMatch(filter::mightContain);
+	}
+
+	@Test
+	void emptyFilterIsAlwaysNegative() {
+		assertThat(RevokedTokenBloomFilter.of(List.of(), 0.001)).isSameAs(RevokedTokenBloomFilter.EMPTY);
+		assertThat(RevokedTokenBloomFilter.EMPTY.mightContain("jti-1")).isFalse();
+		assertThat(RevokedTokenBloomFilter.EMPTY.mightContain("")).isFalse();
+	}
+
+	private static List<String> tokenIds(int size) {
+		List<String> tokenIds = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			tokenIds.add(UUID.randomUUID().toString());
+		}
+		return tokenIds;
+	}
+}
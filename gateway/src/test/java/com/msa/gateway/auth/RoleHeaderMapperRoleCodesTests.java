@@ -0,0 +1,62 @@
+package com.msa.gateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게이트웨이는 common 모듈에 의존하지 않으므로 역할 코드 표를 따로 두고 있습니다.
+ * common RoleCodes 의 AUTHORITIES 선언을 소스에서 읽어 두 표가 어긋나지 않도록 고정합니다.
+ */
+class RoleHeaderMapperRoleCodesTests {
+
+	private static final Path ROLE_CODES_SOURCE =
+			Path.of("../common/src/main/java/com/msa/common/auth/model/RoleCodes.java");
+
+	private static final Pattern AUTHORITIES_DECLARATION =
+			Pattern.compile("String\\[\\]\\s+AUTHORITIES\\s*=\\s*\\{([^}]*)}");
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("\"([^\"]*)\"");
+
+	@Test
+	void authoritiesByCodeMatchesCommonRoleCodes() throws Exception {
+		List<String> authorities = commonAuthorities();
+		assertThat(authorities).isNotEmpty();
+
+		int codeCount = 1 << authorities.size();
+		for (int code = 1; code < codeCount; code++) {
+			List<String> expected = new ArrayList<>();
+			for (int bit = 0; bit < authorities.size(); bit++) {
+				if ((code & (1 << bit)) != 0) {
+					expected.add(authorities.get(bit));
+				}
+			}
+			assertThat(RoleHeaderMapper.authoritiesOf(code)).as("code %d", code).isEqualTo(String.join(",", expected));
+		}
+		// common 에 없는 비트를 게이트웨이만 알고 있지 않음
+		assertThat(RoleHeaderMapper.authoritiesOf(codeCount)).isNull();
+	}
+
+	private static List<String> commonAuthorities() throws Exception {
+		assertThat(ROLE_CODES_SOURCE).exists();
+		String source = Files.readString(ROLE_CODES_SOURCE, StandardCharsets.UTF_8);
+
+		Matcher declaration = AUTHORITIES_DECLARATION.matcher(source);
+		assertThat(declaration.find()).as("RoleCodes.AUTHORITIES 선언").isTrue();
+
+		List<String> authorities = new ArrayList<>();
+		Matcher literal = STRING_LITERAL.matcher(declaration.group(1));
+		while (literal.find()) {
+			authorities.add(literal.group(1));
+		}
+		return authorities;
+	}
+}
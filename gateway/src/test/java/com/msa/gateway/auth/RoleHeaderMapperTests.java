@@ -0,0 +1,37 @@
+package com.msa.gateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleHeaderMapperTests {
+
+	@Test
+	void mapsEveryRoleCodeToAuthorities() {
+		assertThat(RoleHeaderMapper.authoritiesOf(1)).isEqualTo("ROLE_USER");
+		assertThat(RoleHeaderMapper.authoritiesOf(2)).isEqualTo("ROLE_ADMIN");
+		assertThat(RoleHeaderMapper.authoritiesOf(4)).isEqualTo("ROLE_SUPER_ADMIN");
+		assertThat(RoleHeaderMapper.authoritiesOf(7)).isEqualTo("ROLE_USER,ROLE_ADMIN,ROLE_SUPER_ADMIN");
+
+		assertThat(RoleHeaderMapper.authoritiesOf(0)).isNull();
+		assertThat(RoleHeaderMapper.authoritiesOf(8)).isNull();
+		assertThat(RoleHeaderMapper.authoritiesOf(-1)).isNull();
+	}
+
+	@Test
+	void roundTripsRoleCodesToHeaderValues() {
+		assertThat(RoleHeaderMapper.toHeaderValue(RoleHeaderMapper.authoritiesOf(1))).isEqualTo("USER");
+		assertThat(RoleHeaderMapper.toHeaderValue(RoleHeaderMapper.authoritiesOf(3))).isEqualTo("USER,ADMIN");
+		assertThat(RoleHeaderMapper.toHeaderValue(RoleHeaderMapper.authoritiesOf(6))).isEqualTo("ADMIN,SUPER_ADMIN");
+		assertThat(RoleHeaderMapper.toHeaderValue(RoleHeaderMapper.authoritiesOf(7))).isEqualTo("USER,ADMIN,SUPER_ADMIN");
+	}
+
+	@Test
+	void mapsAuthoritiesToHeaderValues() {
+		assertThat(RoleHeaderMapper.toHeaderValue("ROLE_ADMIN")).isEqualTo("ADMIN");
+		// 공백과 빈 항목은 건너뛰고 알 수 없는 권한은 그대로 둠
+		assertThat(RoleHeaderMapper.toHeaderValue(" ROLE_USER ,,ROLE_GUEST,")).isEqualTo("USER,ROLE_GUEST");
+		assertThat(RoleHeaderMapper.toHeaderValue("ROLE_GUEST")).isEqualTo("ROLE_GUEST");
+		assertThat(RoleHeaderMapper.toHeaderValue(null)).isNull();
+	}
+}
@@ -0,0 +1,116 @@
+package com.msa.gateway.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCaptureTests {
+
+	@Test
+	void capturesChunkedBodyWhileStreaming() {
+		MockServerWebExchange exchange = exchange();
+		RecordingListener listener = new RecordingListener();
+		ServerWebExchange captured = ResponseCapture.capture(exchange, 100, listener);
+
+		captured.getResponse().setStatusCode(HttpStatus.OK);
+		captured.getResponse().writeWith(body("hello", ", ", "world")).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("hello, world");
+		assertThat(listener.snapshots).hasSize(1);
+		assertThat(new String(listener.snapshots.get(0).body(), StandardCharsets.UTF_8)).isEqualTo("hello, world");
+		assertThat(listener.snapshots.get(0).status()).isEqualTo(HttpStatus.OK);
+		assertThat(listener.skipped).isZero();
+	}
+
+	@Test
+	void streamsBodyPastMaxSizeWithoutCapturing() {
+		MockServerWebExchange exchange = exchange();
+		RecordingListener listener = new RecordingListener();
+		ServerWebExchange captured = ResponseCapture.capture(exchange, 8, listener);
+
+		captured.getResponse().writeWith(body("12345", "67890", "abc")).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("1234567890abc");
+		assertThat(listener.snapshots).isEmpty();
+		assertThat(listener.skipped).isEqualTo(1);
+	}
+
+	@Test
+	void skipsUpFrontWhenContentLengthExceedsMaxSize() {
+		MockServerWebExchange exchange = exchange();
+		RecordingListener listener = new RecordingListener();
+		ServerWebExchange captured = ResponseCapture.capture(exchange, 4, listener);
+
+		captured.getResponse().getHeaders().setContentLength(10);
+		captured.getResponse().writeWith(body("0123456789")).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("0123456789");
+		assertThat(listener.snapshots).isEmpty();
+		assertThat(listener.skipped).isEqualTo(1);
+	}
+
+	@Test
+	void sharesOneDecoratorBetweenListeners() {
+		MockServerWebExchange exchange = exchange();
+		RecordingListener cache = new RecordingListener();
+		RecordingListener coalescing = new RecordingListener();
+
+		ServerWebExchange first = ResponseCapture.capture(exchange, 100, cache);
+		ServerWebExchange second = ResponseCapture.capture(first, 4, coalescing);
+		assertThat(second).isSameAs(first);
+
+		second.getResponse().writeWith(body("0123456789")).block();
+
+		// 본문은 한 번만 복사되어 한도 안의 리스너에게만 전달
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("0123456789");
+		assertThat(cache.snapshots).hasSize(1);
+		assertThat(coalescing.snapshots).isEmpty();
+		assertThat(coalescing.skipped).isEqualTo(1);
+	}
+
+	@Test
+	void capturesEmptyBody() {
+		MockServerWebExchange exchange = exchange();
+		RecordingListener listener = new RecordingListener();
+
+		ResponseCapture.capture(exchange, 100, listener).getResponse().writeWith(Flux.empty()).block();
+
+		assertThat(listener.snapshots).hasSize(1);
+		assertThat(listener.snapshots.get(0).body()).isEmpty();
+	}
+
+	private static MockServerWebExchange exchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/api/members/1"));
+	}
+
+	private static Flux<DataBuffer> body(String... chunks) {
+		return Flux.fromArray(chunks)
+				.map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static final class RecordingListener implements ResponseCapture.Listener {
+		private final List<ResponseCapture.ResponseSnapshot> snapshots = new ArrayList<>();
+		private int skipped;
+
+		@Override
+		public void onCaptured(ResponseCapture.ResponseSnapshot snapshot) {
+			snapshots.add(snapshot);
+		}
+
+		@Override
+		public void onSkipped() {
+			skipped++;
+		}
+	}
+}
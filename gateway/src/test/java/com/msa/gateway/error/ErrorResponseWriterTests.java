@@ -0,0 +1,71 @@
+package com.msa.gateway.error;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ErrorResponseWriter writer = new ErrorResponseWriter(new SimpleMeterRegistry(), 10);
+
+	@Test
+	void writesPrecomputedBodyWithPath() throws Exception {
+		MockServerWebExchange exchange = exchange();
+
+		JsonNode body = write(exchange, RejectReason.EXPIRED_TOKEN, "/api/members/me");
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(body.get("error").asText()).isEqualTo(RejectReason.EXPIRED_TOKEN.getMessage());
+		assertThat(body.get("path").asText()).isEqualTo("/api/members/me");
+		assertThat(body.get("status").asInt()).isEqualTo(401);
+	}
+
+	@Test
+	void escapesQuotesBackslashesAndControlCharacters() throws Exception {
+		String path = "/api/\"injected\":true,\\x\u0000\u001f\n";
+
+		JsonNode body = write(exchange(), RejectReason.INVALID_TOKEN, path);
+
+		assertThat(body.get("path").asText()).isEqualTo(path);
+		assertThat(body.size()).isEqualTo(3);
+	}
+
+	@Test
+	void keepsNonAsciiAndSurrogatePairs() throws Exception {
+		String path = "/api/회원/😀";
+
+		JsonNode body = write(exchange(), RejectReason.RATE_LIMITED, path);
+
+		assertThat(body.get("path").asText()).isEqualTo(path);
+	}
+
+	@Test
+	void contentLengthMatchesBody() {
+		MockServerWebExchange exchange = exchange();
+
+		writer.write(exchange, RejectReason.MISSING_TOKEN, "/api/\"회원\"/😀", null).block();
+
+		byte[] body = exchange.getResponse().getBodyAsString().block().getBytes(StandardCharsets.UTF_8);
+		assertThat(exchange.getResponse().getHeaders().getContentLength()).isEqualTo(body.length);
+	}
+
+	private JsonNode write(MockServerWebExchange exchange, RejectReason reason, String path) throws Exception {
+		writer.write(exchange, reason, path, null).block();
+		return objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+	}
+
+	private static MockServerWebExchange exchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/api/members/me"));
+	}
+}
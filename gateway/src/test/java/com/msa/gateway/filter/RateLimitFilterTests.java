@@ -0,0 +1,63 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.error.ErrorResponseWriter;
+import com.msa.gateway.ratelimit.StripedTokenBuckets;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+	private static final InetSocketAddress LOAD_BALANCER = new InetSocketAddress("10.0.0.1", 40000);
+
+	@Test
+	void limitsByForwardedClientAddress() {
+		GatewayFilter filter = filter(1);
+
+		assertThat(filter(filter, "203.0.113.7")).isNull();
+		assertThat(filter(filter, "203.0.113.7")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		// 같은 로드 밸런서를 거친 다른 클라이언트는 별도 버킷
+		assertThat(filter(filter, "203.0.113.8")).isNull();
+	}
+
+	@Test
+	void ignoresClientSuppliedForwardedEntries() {
+		GatewayFilter filter = filter(1);
+
+		assertThat(filter(filter, "198.51.100.1, 203.0.113.7")).isNull();
+		// 클라이언트가 앞쪽 값을 바꿔도 신뢰하는 프록시가 덧붙인 주소로 제한
+		assertThat(filter(filter, "198.51.100.2, 203.0.113.7")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	void usesConnectionAddressWithoutTrustedProxies() {
+		GatewayFilter filter = filter(0);
+
+		assertThat(filter(filter, "203.0.113.7")).isNull();
+		assertThat(filter(filter, "203.0.113.8")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	private static GatewayFilter filter(int trustedProxies) {
+		RateLimitFilter.Config config = new RateLimitFilter.Config();
+		config.setReplenishRate(0);
+		config.setBurstCapacity(1);
+		return new RateLimitFilter(new StripedTokenBuckets(),
+				new ErrorResponseWriter(new SimpleMeterRegistry(), 10), trustedProxies).apply(config);
+	}
+
+	private static HttpStatus filter(GatewayFilter filter, String forwardedFor) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login")
+				.remoteAddress(LOAD_BALANCER)
+				.header("X-Forwarded-For", forwardedFor));
+		filter.filter(exchange, e -> Mono.empty()).block();
+		return (HttpStatus) exchange.getResponse().getStatusCode();
+	}
+}
@@ -0,0 +1,89 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.cache.ResponseCapture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTests {
+
+	private final GatewayFilter filter = new RequestCoalescingFilter(new SimpleMeterRegistry(), DataSize.ofBytes(16))
+			.apply(new RequestCoalescingFilter.Config());
+
+	private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+	@Test
+	void followerReusesSuccessfulLeaderResponse() {
+		MockServerWebExchange follower = coalesce(HttpStatus.OK, "members");
+
+		assertThat(upstreamCalls).hasValue(1);
+		assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(follower.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isEqualTo("COALESCED");
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("members");
+	}
+
+	@Test
+	void followerRetriesAfterErrorResponse() {
+		MockServerWebExchange follower = coalesce(HttpStatus.SERVICE_UNAVAILABLE, "busy");
+
+		// 오류 응답은 나눠주지 않고 기다리던 요청이 직접 호출
+		assertThat(upstreamCalls).hasValue(2);
+		assertThat(follower.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isNull();
+	}
+
+	@Test
+	void followerRetriesWhenBodyExceedsMaxSize() {
+		MockServerWebExchange follower = coalesce(HttpStatus.OK, "x".repeat(32));
+
+		assertThat(upstreamCalls).hasValue(2);
+		assertThat(follower.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isNull();
+		assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("x".repeat(32));
+	}
+
+	/**
+	 * 첫 요청이 하위 서비스 응답을 기다리는 동안 같은 요청을 보내고, 두 번째 요청의 교환을 반환합니다.
+	 */
+	private MockServerWebExchange coalesce(HttpStatus status, String body) {
+		Sinks.Empty<Void> release = Sinks.empty();
+		MockServerWebExchange leader = exchange();
+		MockServerWebExchange follower = exchange();
+
+		Mono<Void> leaderResult = filter.filter(leader, upstream(release.asMono(), status, body)).cache();
+		leaderResult.subscribe();
+		Mono<Void> followerResult = filter.filter(follower, upstream(Mono.empty(), status, body)).cache();
+		followerResult.subscribe();
+
+		release.tryEmitEmpty();
+		leaderResult.block(Duration.ofSeconds(5));
+		followerResult.block(Duration.ofSeconds(5));
+		assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(body);
+		return follower;
+	}
+
+	private GatewayFilterChain upstream(Mono<Void> ready, HttpStatus status, String body) {
+		return exchange -> ready.then(Mono.defer(() -> {
+			upstreamCalls.incrementAndGet();
+			exchange.getResponse().setStatusCode(status);
+			return exchange.getResponse().writeWith(Mono.just(
+					DefaultDataBufferFactory.sharedInstance.wrap(body.getBytes(StandardCharsets.UTF_8))));
+		}));
+	}
+
+	private static MockServerWebExchange exchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/api/members/1"));
+	}
+}
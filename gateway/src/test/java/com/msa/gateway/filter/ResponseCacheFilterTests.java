@@ -0,0 +1,73 @@
+package com.msa.gateway.filter;
+
+import com.msa.gateway.cache.ResponseCacheStore;
+import com.msa.gateway.cache.ResponseCapture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTests {
+
+	private final GatewayFilter filter = new ResponseCacheFilter(
+			new ResponseCacheStore(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64)))
+			.apply(new ResponseCacheFilter.Config());
+
+	private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+	@Test
+	void servesSecondRequestFromCache() {
+		MockServerWebExchange first = exchange();
+		filter.filter(first, upstream(Map.of())).block(Duration.ofSeconds(5));
+		MockServerWebExchange second = exchange();
+		filter.filter(second, upstream(Map.of())).block(Duration.ofSeconds(5));
+
+		assertThat(upstreamCalls).hasValue(1);
+		assertThat(first.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(second.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+		assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("members");
+	}
+
+	@Test
+	void doesNotStoreResponseWithVary() {
+		for (String vary : new String[]{"Accept-Language", "*"}) {
+			upstreamCalls.set(0);
+			MockServerWebExchange first = exchange();
+			filter.filter(first, upstream(Map.of(HttpHeaders.VARY, vary))).block(Duration.ofSeconds(5));
+			MockServerWebExchange second = exchange();
+			filter.filter(second, upstream(Map.of(HttpHeaders.VARY, vary))).block(Duration.ofSeconds(5));
+
+			// 요청 헤더마다 다른 응답일 수 있으므로 두 번째 요청도 하위 서비스를 호출
+			assertThat(upstreamCalls).hasValue(2);
+			assertThat(second.getResponse().getHeaders().getFirst(ResponseCapture.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		}
+	}
+
+	private GatewayFilterChain upstream(Map<String, String> headers) {
+		return exchange -> Mono.defer(() -> {
+			upstreamCalls.incrementAndGet();
+			exchange.getResponse().setStatusCode(HttpStatus.OK);
+			headers.forEach(exchange.getResponse().getHeaders()::set);
+			return exchange.getResponse().writeWith(Mono.just(
+					DefaultDataBufferFactory.sharedInstance.wrap("members".getBytes(StandardCharsets.UTF_8))));
+		});
+	}
+
+	private static MockServerWebExchange exchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/api/members/1"));
+	}
+}
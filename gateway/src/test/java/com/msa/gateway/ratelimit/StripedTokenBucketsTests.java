@@ -0,0 +1,58 @@
+package com.msa.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketsTests {
+
+	@Test
+	void consumesUpToBurstCapacity() {
+		StripedTokenBuckets buckets = new StripedTokenBuckets();
+
+		assertThat(buckets.tryAcquire("user:1", 0, 2)).isTrue();
+		assertThat(buckets.tryAcquire("user:1", 0, 2)).isTrue();
+		assertThat(buckets.tryAcquire("user:1", 0, 2)).isFalse();
+		// 다른 키는 별도 버킷
+		assertThat(buckets.tryAcquire("user:2", 0, 2)).isTrue();
+	}
+
+	@Test
+	void keepsBucketsWithUnsyncedUsage() {
+		StripedTokenBuckets buckets = new StripedTokenBuckets();
+		buckets.tryAcquire("user:1", 0, 2);
+
+		// 동기화되지 않은 사용량이 있으면 유휴 시간이 지나도 제거하지 않음
+		buckets.evictIdle(-1);
+		assertThat(buckets.size()).isEqualTo(1);
+
+		Map<String, Long> drained = new HashMap<>();
+		buckets.drainPending(drained::put);
+		assertThat(drained).containsEntry("user:1", 1L);
+
+		buckets.evictIdle(-1);
+		assertThat(buckets.size()).isZero();
+	}
+
+	@Test
+	void throttleComparisonSurvivesNanoTimeOverflow() {
+		long nearMax = Long.MAX_VALUE - 10;
+		TokenBucket bucket = new TokenBucket(0, 10, nearMax);
+		assertThat(bucket.tryConsume(nearMax)).isTrue();
+
+		// 차단 종료 시각이 Long.MAX_VALUE 를 넘어 음수가 되어도 그 전까지는 차단
+		bucket.throttledUntilNanos = nearMax + 100;
+		assertThat(bucket.tryConsume(nearMax + 1)).isFalse();
+		assertThat(bucket.tryConsume(nearMax + 100)).isTrue();
+	}
+
+	@Test
+	void newBucketIsNotThrottledAtNegativeNanoTime() {
+		TokenBucket bucket = new TokenBucket(0, 1, -1_000_000L);
+
+		assertThat(bucket.tryConsume(-1_000_000L)).isTrue();
+	}
+}
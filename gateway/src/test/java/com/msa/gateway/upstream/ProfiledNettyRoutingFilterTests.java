@@ -0,0 +1,109 @@
+package com.msa.gateway.upstream;
+
+import io.netty.channel.ChannelOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.unit.DataSize;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfiledNettyRoutingFilterTests {
+
+	private ProfiledNettyRoutingFilter filter;
+
+	@AfterEach
+	void tearDown() {
+		if (filter != null) {
+			filter.destroy();
+		}
+	}
+
+	@Test
+	void runsBeforeDefaultRoutingFilter() {
+		filter = filter(new HttpClientProperties(), client -> client);
+
+		assertThat(filter.getOrder()).isLessThan(NettyRoutingFilter.ORDER);
+	}
+
+	@Test
+	void profileClientKeepsGatewayHttpClientSettings() {
+		HttpClientProperties properties = new HttpClientProperties();
+		properties.setMaxHeaderSize(DataSize.ofKilobytes(32));
+		filter = filter(properties, client -> client.headers(headers -> headers.add("X-Customized", "true")));
+
+		HttpClient client = filter.getHttpClient(route("member-service"), null);
+
+		assertThat(client.configuration().decoder().maxHeaderSize()).isEqualTo(32 * 1024);
+		assertThat(client.configuration().headers().get("X-Customized")).isEqualTo("true");
+		// 연결 풀과 연결 제한 시간은 프로필 값
+		assertThat(client.configuration().options().get(ChannelOption.CONNECT_TIMEOUT_MILLIS)).isEqualTo(1500);
+		assertThat(client.configuration().connectionProvider().name()).isEqualTo("gateway-upstream-member-service");
+	}
+
+	@Test
+	void routeWithoutProfileUsesDefaultClient() {
+		HttpClient defaultClient = HttpClient.create();
+		filter = new ProfiledNettyRoutingFilter(defaultClient, headersFilters(),
+				new HttpClientProperties(), new ServerProperties(), sslConfigurer(new HttpClientProperties()),
+				new DefaultListableBeanFactory().getBeanProvider(HttpClientCustomizer.class), environment());
+		filter.init();
+
+		assertThat(filter.getHttpClient(route(null), null)).isSameAs(defaultClient);
+		assertThat(filter.getHttpClient(route("unknown"), null)).isSameAs(defaultClient);
+	}
+
+	private static ProfiledNettyRoutingFilter filter(HttpClientProperties properties, HttpClientCustomizer customizer) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("customizer", customizer);
+		ProfiledNettyRoutingFilter filter = new ProfiledNettyRoutingFilter(HttpClient.create(), headersFilters(),
+				properties, new ServerProperties(), sslConfigurer(properties),
+				beanFactory.getBeanProvider(HttpClientCustomizer.class), environment());
+		filter.init();
+		return filter;
+	}
+
+	private static ObjectProvider<List<HttpHeadersFilter>> headersFilters() {
+		return new DefaultListableBeanFactory()
+				.getBeanProvider(ResolvableType.forClassWithGenerics(List.class, HttpHeadersFilter.class));
+	}
+
+	private static HttpClientSslConfigurer sslConfigurer(HttpClientProperties properties) {
+		return new HttpClientSslConfigurer(properties.getSsl(), new ServerProperties(), new DefaultSslBundleRegistry());
+	}
+
+	private static StandardEnvironment environment() {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+				"gateway.upstream.profiles.member-service.max-connections", 10,
+				"gateway.upstream.profiles.member-service.connect-timeout", "1500ms")));
+		return environment;
+	}
+
+	private static Route route(String profile) {
+		Route.AsyncBuilder builder = Route.async()
+				.id("member-service")
+				.uri("http://localhost:8080")
+				.predicate(exchange -> true);
+		if (profile != null) {
+			builder.metadata(ProfiledNettyRoutingFilter.PROFILE_METADATA_KEY, profile);
+		}
+		return builder.build();
+	}
+}
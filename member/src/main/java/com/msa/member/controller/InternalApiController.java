@@ -2,12 +2,15 @@ package com.msa.member.controller;
 
 import com.msa.member.domain.Member;
 import com.msa.member.dto.MemberDto;
+import com.msa.member.dto.MemberPasswordDto;
 import com.msa.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,7 +18,8 @@ import java.util.Optional;
 
 /**
  * 내부 서비스 간 통신을 위한 API 컨트롤러
- * 이 API는 게이트웨이를 통해 외부에서 접근할 수 없도록 설정해야 함
+ * 서비스 토큰(X-Service-Token)으로 인증된 요청만 허용하며 (common SecurityConfig),
+ * 게이트웨이는 /member-service/internal/** 요청을 라우팅하지 않음
  */
 @Slf4j
 @RestController
@@ -64,4 +68,17 @@ public class InternalApiController {
                 .map(member -> ResponseEntity.ok(MemberDto.from(member)))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * 비밀번호 해시 갱신 (내부 API, auth-service 가 BCrypt strength 변경 후 로그인 성공 시 호출)
+     */
+    @PutMapping("/username/{username}/password")
+    public ResponseEntity<Void> updatePassword(@PathVariable String username,
+                                               @RequestBody MemberPasswordDto memberPasswordDto) {
+        log.info("[내부 API] 비밀번호 해시 갱신: {}", username);
+
+        return memberService.updatePasswordHash(username, memberPasswordDto.getPassword())
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
 }
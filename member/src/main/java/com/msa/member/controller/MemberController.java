@@ -1,5 +1,6 @@
 package com.msa.member.controller;
 
+import com.msa.common.dto.PreSerializedResponse;
 import com.msa.common.dto.ResponseDto;
 import com.msa.member.dto.MemberPageDto;
 import com.msa.member.dto.MemberSaveDto;
@@ -10,11 +11,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Base64;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,15 +33,17 @@ public class MemberController {
     final String CREATE_MEMBER_SUCCESS = "사용자 가입이 성공적으로 완료되었습니다.";
     final String SEARCH_MEMBER_SUCCESS = "사용자 조회가 성공적으로 완료되었습니다.";
 
+    // 가입 성공 응답은 내용이 고정되어 있으므로 미리 직렬화한 본문 사용
+    private final PreSerializedResponse createMemberSuccess = PreSerializedResponse.success(CREATE_MEMBER_SUCCESS);
+
     private final MemberService memberService;
 
 
     @PostMapping
-    public ResponseEntity<ResponseDto<?>> createMember(@Valid @RequestBody MemberSaveDto memberSaveDto) {
+    public ResponseEntity<byte[]> createMember(@Valid @RequestBody MemberSaveDto memberSaveDto) {
         memberService.createMember(memberSaveDto);
 
-        ResponseDto<?> success = ResponseDto.success(CREATE_MEMBER_SUCCESS);
-        return ResponseEntity.ok(success);
+        return createMemberSuccess.toResponseEntity();
     }
 
     @GetMapping("paging")
@@ -46,6 +51,9 @@ public class MemberController {
     public ResponseEntity<?> findMemberListWithPaging(@PageableDefault Pageable pageable) {
         Page<MemberPageDto> page = memberService.findMemberListWithPaging(pageable);
         ResponseDto<Page<MemberPageDto>> success = ResponseDto.success(SEARCH_MEMBER_SUCCESS, page);
-        return ResponseEntity.ok(success);
+        // 게이트웨이 응답 캐시가 사용자별로 짧게 보관할 수 있도록 명시 (기본 보안 헤더는 no-store)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate())
+                .body(success);
     }
 }
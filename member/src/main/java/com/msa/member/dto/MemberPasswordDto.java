@@ -0,0 +1,18 @@
+package com.msa.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 비밀번호 해시 갱신 요청 (auth-service 가 이미 해시한 값)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPasswordDto {
+
+    private String password;
+}
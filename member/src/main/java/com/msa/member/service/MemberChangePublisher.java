@@ -0,0 +1,33 @@
+package com.msa.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 정보 변경 알림 발행기
+ * 트랜잭션이 커밋된 뒤 Redis 채널(member:changed)에 사용자 이름을 발행하여
+ * 모든 auth-service 인스턴스가 회원 캐시 항목을 제거하도록 합니다.
+ * 발행에 실패해도 회원 정보 변경은 유지되며, auth-service 캐시는 TTL 이 지나면 갱신됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberChangePublisher {
+
+    // auth-service MemberProfileCache.INVALIDATION_CHANNEL 과 같은 값
+    private static final String CHANNEL = "member:changed";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event.username());
+        } catch (Exception e) {
+            log.warn("[회원 변경 알림] 발행 실패: {}, 오류: {}", event.username(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.msa.member.service;
+
+/**
+ * 회원 정보 변경 이벤트 (트랜잭션 커밋 후 auth-service 에 알림)
+ *
+ * @param username 변경된 회원의 사용자 이름
+ */
+public record MemberChangedEvent(String username) {
+}
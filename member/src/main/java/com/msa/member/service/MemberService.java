@@ -7,6 +7,7 @@ import com.msa.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -22,6 +23,7 @@ import java.util.Optional;
 public class MemberService {
     
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     
     /**
@@ -43,6 +45,9 @@ public class MemberService {
 
 
         Member savedMember = memberRepository.save(memberSaveDto.toEntity());
+
+        // 커밋 후 auth-service 회원 캐시 무효화 알림
+        eventPublisher.publishEvent(new MemberChangedEvent(savedMember.getUsername()));
     }
 
 
@@ -73,6 +78,24 @@ public class MemberService {
 
 
 
+    /**
+     * 이미 해시된 비밀번호로 교체 (auth-service 의 BCrypt strength 변경 반영)
+     *
+     * @return 회원이 없으면 false
+     */
+    @Transactional
+    public boolean updatePasswordHash(String username, String encodedPassword) {
+        Optional<Member> opMember = memberRepository.findByUsername(username);
+        if (opMember.isEmpty()) {
+            return false;
+        }
+        opMember.get().setPassword(encodedPassword);
+
+        // 커밋 후 auth-service 회원 캐시 무효화 알림
+        eventPublisher.publishEvent(new MemberChangedEvent(username));
+        return true;
+    }
+
     // ---------------------------------------------------------------------------------------------------
     /**
      * 회원 ID로 조회 